@@ -0,0 +1,98 @@
+package dev.zac.jobTracker.dto.jobApplication;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import dev.zac.jobTracker.dto.common.PageResponseDto;
+
+import dev.zac.jobTracker.enums.JobApplicationStatus;
+
+/**
+ * Benchmark for serializing a page of job applications the way the list endpoints do,
+ * using the snake case, non-null settings from application.yml.
+ * Compares the serialized {@link Page} envelope with {@link PageResponseDto}, with and without Blackbird.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "200", "2000"})
+    private int pageSize;
+
+    @Param({"false", "true"})
+    private boolean blackbird;
+
+    private ObjectWriter writer;
+    private Page<JobApplicationDto> page;
+    private PageResponseDto<JobApplicationDto> pageResponse;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .serializationInclusion(JsonInclude.Include.NON_NULL);
+        if (blackbird) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        writer = builder.build().writer();
+
+        JobApplicationStatus[] statuses = JobApplicationStatus.values();
+        List<JobApplicationDto> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(JobApplicationDto.builder()
+                    .id((long) i)
+                    .company("Company " + i)
+                    .jobTitle("Software Engineer " + (i % 7))
+                    .dateApplied(LocalDate.of(2024, 1, 1).plusDays(i % 365))
+                    .status(statuses[i % statuses.length])
+                    .lastResponseDate(i % 3 == 0 ? null : LocalDate.of(2024, 2, 1).plusDays(i % 300))
+                    .technologyStack(List.of("Java", "Spring Boot", "PostgreSQL"))
+                    .requiredExperience(i % 10)
+                    .notes(i % 2 == 0 ? null : "Followed up with the hiring manager after the first call.")
+                    .createdAt(LocalDateTime.of(2024, 1, 1, 9, 0).plusMinutes(i))
+                    .updatedAt(LocalDateTime.of(2024, 1, 2, 9, 0).plusMinutes(i))
+                    .build());
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), pageSize * 10L);
+        pageResponse = PageResponseDto.of(page);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializePageResponse() throws JsonProcessingException {
+        return writer.writeValueAsBytes(pageResponse);
+    }
+}
@@ -0,0 +1,61 @@
+package dev.zac.jobTracker.exceptions;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import dev.zac.jobTracker.dto.jobApplication.CreateJobApplicationDto;
+
+/**
+ * Benchmarks for building the error responses returned by the exception handler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private ResourceNotFoundException notFound;
+    private MethodArgumentNotValidException invalidRequest;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+        notFound = new ResourceNotFoundException("Job application not found with ID: 42");
+
+        BeanPropertyBindingResult bindingResult =
+                new BeanPropertyBindingResult(new CreateJobApplicationDto(), "createJobApplicationDto");
+        bindingResult.rejectValue("company", "NotBlank", "Company name is required");
+        bindingResult.rejectValue("jobTitle", "NotBlank", "Job title is required");
+        bindingResult.rejectValue("dateApplied", "NotNull", "Date applied is required");
+        MethodParameter parameter = new MethodParameter(
+                GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("setUp"), -1);
+        invalidRequest = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<GlobalExceptionHandler.ErrorResponse> handleResourceNotFound() {
+        return handler.handleResourceNotFound(notFound);
+    }
+
+    @Benchmark
+    public ResponseEntity<GlobalExceptionHandler.ValidationErrorResponse> handleValidationErrors() {
+        return handler.handleValidationErrors(invalidRequest);
+    }
+}
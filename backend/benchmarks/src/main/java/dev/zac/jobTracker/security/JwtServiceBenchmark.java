@@ -0,0 +1,95 @@
+package dev.zac.jobTracker.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.zac.jobTracker.config.JwtProperties;
+import dev.zac.jobTracker.entities.User;
+
+/**
+ * Benchmarks for token issuing and the checks done on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "dGhpcy1pcy1hLXRlc3Qtc2VjcmV0LXRoYXQtaXMtbG9uZy1lbm91Z2gtZm9yLWhzMjU2";
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(new JwtProperties(SECRET, 3_600_000, 10_000));
+        user = User.builder()
+                .id(42L)
+                .email("jane@example.com")
+                .role(User.Role.USER)
+                .build();
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    public boolean isTokenValidUncached(UncachedTokens uncached) {
+        return uncached.jwtService.isTokenValid(uncached.nextToken(), user);
+    }
+
+    /**
+     * Tokens the service has not verified yet, as on the first request after login or on an
+     * instance the token's earlier requests did not reach. The service caches a single token
+     * and the benchmark cycles through many, so every check parses and verifies the signature.
+     */
+    @State(Scope.Thread)
+    public static class UncachedTokens {
+
+        private static final int TOKEN_COUNT = 1_024;
+
+        private JwtService jwtService;
+        private String[] tokens;
+        private int next;
+
+        @Setup
+        public void setUp(JwtServiceBenchmark benchmark) {
+            jwtService = new JwtService(new JwtProperties(SECRET, 3_600_000, 1));
+            tokens = new String[TOKEN_COUNT];
+            for (int i = 0; i < TOKEN_COUNT; i++) {
+                tokens[i] = jwtService.generateToken(benchmark.user);
+            }
+        }
+
+        String nextToken() {
+            next = (next + 1) % TOKEN_COUNT;
+            return tokens[next];
+        }
+    }
+}
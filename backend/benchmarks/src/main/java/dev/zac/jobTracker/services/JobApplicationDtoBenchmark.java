@@ -0,0 +1,60 @@
+package dev.zac.jobTracker.services;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.zac.jobTracker.dto.jobApplication.JobApplicationDto;
+import dev.zac.jobTracker.entities.JobApplication;
+import dev.zac.jobTracker.enums.JobApplicationStatus;
+
+/**
+ * Benchmark for mapping a job application entity to its response DTO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobApplicationDtoBenchmark {
+
+    private JobApplication application;
+    private List<String> technologyStack;
+
+    @Setup
+    public void setUp() {
+        application = JobApplication.builder()
+                .id(1_000L)
+                .company("Acme Corporation")
+                .jobTitle("Senior Backend Engineer")
+                .dateApplied(LocalDate.of(2024, 3, 14))
+                .status(JobApplicationStatus.TECHNICAL_INTERVIEW)
+                .lastResponseDate(LocalDate.of(2024, 3, 28))
+                .tagIds(new Integer[] {1, 2, 3, 4})
+                .requiredExperience(5)
+                .notes("Recruiter reached out on LinkedIn, second round scheduled with the platform team.")
+                .createdAt(LocalDateTime.of(2024, 3, 14, 9, 30))
+                .updatedAt(LocalDateTime.of(2024, 3, 28, 16, 5))
+                .build();
+        // Tag names come from the service's cache, resolved before mapping
+        technologyStack = List.of("Java", "Spring Boot", "PostgreSQL", "Kafka");
+    }
+
+    @Benchmark
+    public JobApplicationDto toDto() {
+        return JobApplicationMapper.toDto(application, technologyStack);
+    }
+}
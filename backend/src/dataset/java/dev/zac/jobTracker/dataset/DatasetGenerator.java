@@ -0,0 +1,320 @@
+package dev.zac.jobTracker.dataset;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flywaydb.core.Flyway;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Fills a database with synthetic users and job applications for scale and query plan testing.
+ * Rows are streamed with COPY over several connections instead of going through JPA, and the
+ * secondary indexes are rebuilt once at the end rather than maintained row by row.
+ *
+ * <p>Run with {@code mvn -Pdataset test-compile exec:java -Dexec.args="--applications=10000000"}.
+ * Every generated user can log in with the password {@value #PASSWORD}.
+ */
+public final class DatasetGenerator {
+
+    static final String PASSWORD = "password123";
+
+    /** Rows per COPY. Each block has its own random stream, so the data does not depend on the thread count. */
+    private static final int BLOCK_SIZE = 50_000;
+
+    /** Size of the buffer sent to the server per write. */
+    private static final int FLUSH_CHARS = 1 << 20;
+
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private final DatasetOptions options;
+
+    private DatasetGenerator(DatasetOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        DatasetOptions options;
+        try {
+            options = DatasetOptions.parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.println("Options: --url= --username= --password= --users= --applications= --seed= --until=YYYY-MM-DD"
+                    + " --threads= --rebuild-indexes=true|false");
+            System.exit(2);
+            return;
+        }
+        new DatasetGenerator(options).run();
+    }
+
+    private void run() throws Exception {
+        long started = System.nanoTime();
+        Flyway.configure()
+                .dataSource(options.url(), options.username(), options.password())
+                .baselineOnMigrate(true)
+                .load()
+                .migrate();
+
+        String emailPrefix = "dataset-" + options.seed() + "-user";
+        try (Connection connection = connect()) {
+            if (countUsers(connection, emailPrefix) > 0) {
+                throw new IllegalStateException("A dataset with seed " + options.seed() + " is already loaded");
+            }
+
+            RowGenerator rows = new RowGenerator(options.until(), new BCryptPasswordEncoder().encode(PASSWORD),
+                    internTechnologies(connection));
+            long[] userIds = copyUsers(connection, rows, emailPrefix);
+            print("Created %,d users", userIds.length);
+
+            Map<String, String> indexes = options.rebuildIndexes() ? dropSecondaryIndexes(connection) : Map.of();
+            long firstId = reserveApplicationIds(connection);
+            copyApplications(rows, userIds, firstId);
+            rebuildIndexes(indexes);
+            refreshStatusCounts(connection, emailPrefix);
+            advanceCollectionVersions(connection, emailPrefix);
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE users, job_applications, job_application_status_counts");
+            }
+        }
+        print("Done in %.1f s", (System.nanoTime() - started) / 1e9);
+    }
+
+    /**
+     * Intern the generated technologies as tags up front, so rows can be copied with their tag IDs.
+     *
+     * @return the tag ID of each of {@link RowGenerator#TECHNOLOGIES}
+     */
+    private int[] internTechnologies(Connection connection) throws SQLException {
+        String[] names = RowGenerator.TECHNOLOGIES.toArray(String[]::new);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO technology_tags (name) SELECT unnest(?) ON CONFLICT (name) DO NOTHING")) {
+            statement.setArray(1, connection.createArrayOf("text", names));
+            statement.executeUpdate();
+        }
+
+        Map<String, Integer> tagIds = new LinkedHashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT name, id FROM technology_tags WHERE name = ANY(?)")) {
+            statement.setArray(1, connection.createArrayOf("text", names));
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    tagIds.put(result.getString(1), result.getInt(2));
+                }
+            }
+        }
+        return RowGenerator.TECHNOLOGIES.stream().mapToInt(tagIds::get).toArray();
+    }
+
+    private long[] copyUsers(Connection connection, RowGenerator rows, String emailPrefix) throws SQLException {
+        CopyIn copy = copyIn(connection, "users", RowGenerator.USER_COLUMNS);
+        // Users get their own random stream so their rows do not shift the applications
+        SplittableRandom random = new SplittableRandom(options.seed() ^ 0x5DEECE66DL);
+        StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 4_096);
+        for (int i = 0; i < options.users(); i++) {
+            rows.appendUser(buffer, emailPrefix + i + "@example.com", random);
+            flushIfFull(copy, buffer);
+        }
+        endCopy(copy, buffer);
+
+        long[] ids = new long[options.users()];
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id FROM users WHERE email LIKE ? ORDER BY id")) {
+            statement.setString(1, emailPrefix + "%");
+            try (ResultSet result = statement.executeQuery()) {
+                int i = 0;
+                while (result.next()) {
+                    ids[i++] = result.getLong(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Move the ID sequence past the applications about to be copied, the same way Hibernate takes
+     * a block of IDs, so rows saved by the running application never collide with generated ones.
+     *
+     * @return the first reserved ID
+     */
+    private long reserveApplicationIds(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT nextval('job_applications_seq')")) {
+            result.next();
+            long firstId = result.getLong(1);
+            long reserved = Math.max(ID_ALLOCATION_SIZE,
+                    (options.applications() + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE * ID_ALLOCATION_SIZE);
+            statement.execute("SELECT setval('job_applications_seq', " + (firstId + reserved) + ", false)");
+            return firstId;
+        }
+    }
+
+    private void copyApplications(RowGenerator rows, long[] userIds, long firstId) throws Exception {
+        WeightedSampler owners = RowGenerator.userActivity(userIds.length, new SplittableRandom(options.seed()));
+        long blocks = (options.applications() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        AtomicLong nextBlock = new AtomicLong();
+        AtomicLong copied = new AtomicLong();
+        long started = System.nanoTime();
+
+        runInParallel(() -> {
+            try (Connection connection = connect()) {
+                StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 4_096);
+                for (long block = nextBlock.getAndIncrement(); block < blocks; block = nextBlock.getAndIncrement()) {
+                    SplittableRandom random = new SplittableRandom(options.seed() * 0x9E3779B97F4A7C15L + block);
+                    long from = block * BLOCK_SIZE;
+                    long to = Math.min(from + BLOCK_SIZE, options.applications());
+
+                    CopyIn copy = copyIn(connection, "job_applications", RowGenerator.APPLICATION_COLUMNS);
+                    for (long row = from; row < to; row++) {
+                        rows.appendApplication(buffer, firstId + row, userIds[owners.next(random)], random);
+                        flushIfFull(copy, buffer);
+                    }
+                    endCopy(copy, buffer);
+
+                    long total = copied.addAndGet(to - from);
+                    double seconds = (System.nanoTime() - started) / 1e9;
+                    print("Copied %,d of %,d applications (%,.0f rows/s)", total, options.applications(), total / seconds);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Drop every job_applications index that does not back a constraint.
+     *
+     * @return the dropped index definitions by name
+     */
+    private Map<String, String> dropSecondaryIndexes(Connection connection) throws SQLException {
+        Map<String, String> indexes = new LinkedHashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("""
+                     SELECT indexname, indexdef FROM pg_indexes
+                     WHERE schemaname = current_schema() AND tablename = 'job_applications'
+                       AND indexname NOT IN (SELECT conname FROM pg_constraint
+                                             WHERE conrelid = 'job_applications'::regclass)
+                     """)) {
+            while (result.next()) {
+                indexes.put(result.getString(1), result.getString(2));
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String name : indexes.keySet()) {
+                statement.execute("DROP INDEX " + name);
+            }
+        }
+        print("Dropped %d indexes for the load: %s", indexes.size(), indexes.keySet());
+        return indexes;
+    }
+
+    private void rebuildIndexes(Map<String, String> indexes) throws Exception {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        List<String> definitions = new ArrayList<>(indexes.values());
+        AtomicLong next = new AtomicLong();
+        runInParallel(() -> {
+            try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+                statement.execute("SET maintenance_work_mem = '512MB'");
+                for (long i = next.getAndIncrement(); i < definitions.size(); i = next.getAndIncrement()) {
+                    long started = System.nanoTime();
+                    statement.execute(definitions.get((int) i));
+                    print("Rebuilt %s in %.1f s", definitions.get((int) i), (System.nanoTime() - started) / 1e9);
+                }
+            }
+            return null;
+        });
+    }
+
+    private void refreshStatusCounts(Connection connection, String emailPrefix) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                INSERT INTO job_application_status_counts (user_id, status, application_count)
+                SELECT user_id, status, count(*) FROM job_applications
+                WHERE user_id IN (SELECT id FROM users WHERE email LIKE ?)
+                GROUP BY user_id, status
+                ON CONFLICT (user_id, status) DO UPDATE SET application_count = EXCLUDED.application_count
+                """)) {
+            statement.setString(1, emailPrefix + "%");
+            print("Recorded %,d status counters", statement.executeUpdate());
+        }
+    }
+
+    private void advanceCollectionVersions(Connection connection, String emailPrefix) throws SQLException {
+        // Without a row a user reads as version 0, which stands for an empty collection
+        try (PreparedStatement statement = connection.prepareStatement("""
+                INSERT INTO job_application_collection_versions (user_id, version)
+                SELECT id, nextval('job_application_collection_version_seq') FROM users
+                WHERE email LIKE ?
+                ON CONFLICT (user_id) DO UPDATE SET version = EXCLUDED.version
+                """)) {
+            statement.setString(1, emailPrefix + "%");
+            statement.executeUpdate();
+        }
+    }
+
+    private long countUsers(Connection connection, String emailPrefix) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT count(*) FROM users WHERE email LIKE ?")) {
+            statement.setString(1, emailPrefix + "%");
+            try (ResultSet result = statement.executeQuery()) {
+                result.next();
+                return result.getLong(1);
+            }
+        }
+    }
+
+    private void runInParallel(Callable<Void> task) throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(options.threads())) {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < options.threads(); i++) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(options.url(), options.username(), options.password());
+    }
+
+    private static CopyIn copyIn(Connection connection, String table, String columns) throws SQLException {
+        return connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn("COPY " + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv)");
+    }
+
+    private static void flushIfFull(CopyIn copy, StringBuilder buffer) throws SQLException {
+        if (buffer.length() >= FLUSH_CHARS) {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copy.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+
+    private static void endCopy(CopyIn copy, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+        copy.endCopy();
+    }
+
+    private static void print(String format, Object... args) {
+        System.out.println(String.format(format, args));
+    }
+}
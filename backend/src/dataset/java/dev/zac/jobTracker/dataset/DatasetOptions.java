@@ -0,0 +1,77 @@
+package dev.zac.jobTracker.dataset;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line options for {@link DatasetGenerator}, given as {@code --name=value}.
+ * Connection settings default to the DB_URL, DB_USERNAME and DB_PASSWORD variables from .env.
+ *
+ * @param url JDBC URL of the target database
+ * @param username database user
+ * @param password database password
+ * @param users number of users to create
+ * @param applications number of job applications to create
+ * @param seed seed for every random choice; the same seed and until date produce the same rows
+ * @param until the latest date an application can have been sent
+ * @param threads number of parallel COPY connections
+ * @param rebuildIndexes drop the secondary job application indexes during the load and rebuild them afterwards
+ */
+record DatasetOptions(
+    String url,
+    String username,
+    String password,
+    int users,
+    long applications,
+    long seed,
+    LocalDate until,
+    int threads,
+    boolean rebuildIndexes
+) {
+
+    /**
+     * Parse options from the command line, falling back to defaults for anything not given.
+     *
+     * @param args arguments in {@code --name=value} form
+     * @return the parsed options
+     * @throws IllegalArgumentException if an argument is unknown or malformed
+     */
+    static DatasetOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        DatasetOptions options = new DatasetOptions(
+                value(values, "url", System.getenv("DB_URL")),
+                value(values, "username", System.getenv("DB_USERNAME")),
+                value(values, "password", System.getenv("DB_PASSWORD")),
+                Integer.parseInt(value(values, "users", "100000")),
+                Long.parseLong(value(values, "applications", "10000000")),
+                Long.parseLong(value(values, "seed", "42")),
+                LocalDate.parse(value(values, "until", LocalDate.now().toString())),
+                Integer.parseInt(value(values, "threads", String.valueOf(Math.min(4, Runtime.getRuntime().availableProcessors())))),
+                Boolean.parseBoolean(value(values, "rebuild-indexes", "true"))
+        );
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        if (options.url() == null) {
+            throw new IllegalArgumentException("Set --url or the DB_URL environment variable");
+        }
+        if (options.users() < 1 || options.applications() < 0 || options.threads() < 1) {
+            throw new IllegalArgumentException("users and threads must be positive and applications must not be negative");
+        }
+        return options;
+    }
+
+    private static String value(Map<String, String> values, String name, String defaultValue) {
+        String value = values.remove(name);
+        return value != null ? value : defaultValue;
+    }
+}
@@ -0,0 +1,241 @@
+package dev.zac.jobTracker.dataset;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import dev.zac.jobTracker.enums.JobApplicationStatus;
+
+/**
+ * Produces users and job applications as PostgreSQL CSV rows with realistic distributions:
+ * a long-tailed number of applications per user, popular companies and technologies
+ * showing up far more often than rare ones, and mostly unanswered applications.
+ */
+final class RowGenerator {
+
+    static final String USER_COLUMNS = "name, email, password, experience_years, tag_ids, job_title, role, created_at";
+
+    static final String APPLICATION_COLUMNS = "id, user_id, company, job_title, date_applied, status, last_response_date, "
+            + "tag_ids, required_experience, notes, created_at, updated_at";
+
+    private static final int DATE_SPAN_DAYS = 3 * 365;
+
+    private static final int MAX_NOTES_LENGTH = 2_000;
+
+    /** Share of applications in each status, roughly what a job search looks like. */
+    private static final Map<JobApplicationStatus, Double> STATUS_WEIGHTS = new EnumMap<>(Map.ofEntries(
+            Map.entry(JobApplicationStatus.APPLIED, 24.0),
+            Map.entry(JobApplicationStatus.NO_RESPONSE, 30.0),
+            Map.entry(JobApplicationStatus.REJECTED, 22.0),
+            Map.entry(JobApplicationStatus.PHONE_INTERVIEW, 7.0),
+            Map.entry(JobApplicationStatus.TECHNICAL_INTERVIEW, 5.0),
+            Map.entry(JobApplicationStatus.BEHAVIOURAL_INTERVIEW, 3.0),
+            Map.entry(JobApplicationStatus.ON_SITE_INTERVIEW, 2.0),
+            Map.entry(JobApplicationStatus.FINAL_INTERVIEW, 1.5),
+            Map.entry(JobApplicationStatus.OFFER_RECEIVED, 1.0),
+            Map.entry(JobApplicationStatus.OFFER_ACCEPTED, 0.5),
+            Map.entry(JobApplicationStatus.OFFER_REJECTED, 0.5),
+            Map.entry(JobApplicationStatus.WITHDRAWN, 3.5)));
+
+    private static final List<String> COMPANY_PREFIXES = List.of(
+            "Acme", "Globex", "Initech", "Umbrella", "Stark", "Wayne", "Hooli", "Vandelay", "Soylent", "Tyrell",
+            "Cyberdyne", "Aperture", "Massive", "Pied Piper", "Wonka", "Oscorp", "Dunder", "Gringotts", "Monarch", "Nakatomi",
+            "Blue Sun", "Black Mesa", "Nuka", "Vault", "Sterling", "Bluth", "Prestige", "Kiwi", "Northwind", "Contoso",
+            "Fabrikam", "Tailspin", "Litware", "Proseware", "Adventure", "Fourth Coffee", "Wide World", "Lucerne", "Margie", "Trey",
+            "Alpine", "Coho", "Graphic", "Humongous", "Woodgrove", "Datum", "Relecloud", "Southridge", "Wingtip", "Lamna");
+
+    private static final List<String> COMPANY_SUFFIXES = List.of(
+            "Labs", "Systems", "Technologies", "Software", "Group", "Digital", "Analytics", "Cloud", "Networks", "Solutions",
+            "Health", "Finance", "Robotics", "Games", "Media", "Logistics", "Security", "Energy", "Bank", "Studios");
+
+    private static final List<String> SENIORITIES = List.of("", "Junior ", "Senior ", "Staff ", "Lead ", "Principal ");
+
+    private static final List<String> ROLES = List.of(
+            "Software Engineer", "Backend Engineer", "Frontend Engineer", "Full Stack Developer", "Java Developer",
+            "Platform Engineer", "Site Reliability Engineer", "Data Engineer", "DevOps Engineer", "Mobile Developer",
+            "Machine Learning Engineer", "Engineering Manager", "QA Engineer", "Security Engineer", "Solutions Architect");
+
+    static final List<String> TECHNOLOGIES = List.of(
+            "Java", "Spring Boot", "PostgreSQL", "JavaScript", "TypeScript", "Python", "AWS", "Docker", "Kubernetes", "React",
+            "Angular", "SQL", "Git", "Kafka", "Go", "C#", ".NET", "Node.js", "Terraform", "Redis",
+            "GCP", "Azure", "Kotlin", "Vue", "MongoDB", "GraphQL", "Elasticsearch", "Rust", "Scala", "Spark",
+            "Hibernate", "RabbitMQ", "Linux", "Jenkins", "Swift", "Flutter", "Snowflake", "Airflow", "gRPC", "Ruby on Rails");
+
+    private static final List<String> NOTE_WORDS = List.of(
+            "recruiter", "reached", "out", "on", "LinkedIn", "about", "a", "remote", "hybrid", "role", "with", "the",
+            "platform", "team", "hiring", "manager", "mentioned", "strong", "focus", "on", "distributed", "systems",
+            "take-home", "assignment", "due", "next", "week", "salary", "range", "discussed", "benefits", "look", "good",
+            "interview", "panel", "asked", "about", "system", "design", "and", "database", "indexing", "follow", "up",
+            "after", "two", "weeks", "if", "no", "response", "referral", "from", "former", "colleague", "team", "uses",
+            "microservices", "event-driven", "architecture", "on-call", "rotation", "every", "six", "weeks", "relocation",
+            "package", "offered", "visa", "sponsorship", "available", "culture", "seems", "collaborative", "fast-paced");
+
+    private static final String[] NAMES = {
+            "Alex", "Sam", "Jordan", "Taylor", "Morgan", "Casey", "Riley", "Jamie", "Avery", "Quinn",
+            "Charlie", "Drew", "Emerson", "Finley", "Harper", "Kai", "Logan", "Noah", "Parker", "Rowan"};
+
+    private final WeightedSampler companySampler;
+    private final WeightedSampler technologySampler;
+    private final int[] technologyTagIds;
+    private final WeightedSampler roleSampler;
+    private final WeightedSampler statusSampler;
+    private final JobApplicationStatus[] statuses = JobApplicationStatus.values();
+    private final LocalDate until;
+    private final String passwordHash;
+
+    /**
+     * Create a generator.
+     *
+     * @param until the latest date an application can have been sent
+     * @param passwordHash encoded password shared by every generated user
+     * @param technologyTagIds the tag ID of each of {@link #TECHNOLOGIES}
+     */
+    RowGenerator(LocalDate until, String passwordHash, int[] technologyTagIds) {
+        this.until = until;
+        this.passwordHash = passwordHash;
+        this.technologyTagIds = technologyTagIds;
+        this.companySampler = WeightedSampler.zipf(COMPANY_PREFIXES.size() * COMPANY_SUFFIXES.size(), 0.8);
+        this.technologySampler = WeightedSampler.zipf(TECHNOLOGIES.size(), 1.0);
+        this.roleSampler = WeightedSampler.zipf(ROLES.size(), 0.7);
+
+        double[] statusWeights = new double[statuses.length];
+        for (JobApplicationStatus status : statuses) {
+            Double weight = STATUS_WEIGHTS.get(status);
+            if (weight == null) {
+                throw new IllegalStateException("No dataset weight for status " + status);
+            }
+            statusWeights[status.ordinal()] = weight;
+        }
+        this.statusSampler = new WeightedSampler(statusWeights);
+    }
+
+    /**
+     * Build a sampler that picks which user sent an application. Activity is log-normal,
+     * so most users send a few dozen applications while a small number send thousands.
+     *
+     * @param users number of users
+     * @param random the random source
+     * @return sampler over user indexes
+     */
+    static WeightedSampler userActivity(int users, SplittableRandom random) {
+        double[] activity = new double[users];
+        for (int i = 0; i < users; i++) {
+            activity[i] = Math.exp(1.5 * random.nextGaussian());
+        }
+        return new WeightedSampler(activity);
+    }
+
+    /**
+     * Append one user row.
+     *
+     * @param out the CSV buffer
+     * @param email the user's unique email
+     * @param random the random source
+     */
+    void appendUser(StringBuilder out, String email, SplittableRandom random) {
+        quoted(out, NAMES[random.nextInt(NAMES.length)] + " " + NAMES[random.nextInt(NAMES.length)]).append(',');
+        quoted(out, email).append(',');
+        quoted(out, passwordHash).append(',');
+        out.append(random.nextInt(16)).append(',');
+        quoted(out, tagIds(random)).append(',');
+        quoted(out, ROLES.get(roleSampler.next(random))).append(',');
+        out.append("USER,");
+        out.append(until.minusDays(DATE_SPAN_DAYS + random.nextInt(365)).atTime(9, 0)).append('\n');
+    }
+
+    /**
+     * Append one job application row.
+     *
+     * @param out the CSV buffer
+     * @param id the application ID
+     * @param userId the owning user's ID
+     * @param random the random source
+     */
+    void appendApplication(StringBuilder out, long id, long userId, SplittableRandom random) {
+        int company = companySampler.next(random);
+        JobApplicationStatus status = statuses[statusSampler.next(random)];
+        LocalDate dateApplied = until.minusDays(random.nextInt(DATE_SPAN_DAYS));
+        LocalDate lastResponseDate = lastResponseDate(status, dateApplied, random);
+        LocalDateTime createdAt = dateApplied.atStartOfDay().plusSeconds(random.nextInt(86_400));
+        LocalDateTime updatedAt = lastResponseDate != null ? lastResponseDate.atTime(createdAt.toLocalTime()) : createdAt;
+
+        out.append(id).append(',');
+        out.append(userId).append(',');
+        quoted(out, COMPANY_PREFIXES.get(company % COMPANY_PREFIXES.size()) + " "
+                + COMPANY_SUFFIXES.get(company / COMPANY_PREFIXES.size())).append(',');
+        quoted(out, SENIORITIES.get(random.nextInt(SENIORITIES.size())) + ROLES.get(roleSampler.next(random))).append(',');
+        out.append(dateApplied).append(',');
+        out.append(status.name()).append(',');
+        if (lastResponseDate != null) {
+            out.append(lastResponseDate);
+        }
+        out.append(',');
+        quoted(out, tagIds(random)).append(',');
+        if (random.nextInt(5) > 0) {
+            out.append(Math.min(15, (int) Math.abs(3 + 3 * random.nextGaussian())));
+        }
+        out.append(',');
+        // A third of applications have no notes, the rest range from a line to a full page
+        if (random.nextInt(3) > 0) {
+            quoted(out, notes(random));
+        }
+        out.append(',');
+        out.append(createdAt).append(',');
+        out.append(updatedAt).append('\n');
+    }
+
+    private LocalDate lastResponseDate(JobApplicationStatus status, LocalDate dateApplied, SplittableRandom random) {
+        if (status == JobApplicationStatus.APPLIED || status == JobApplicationStatus.NO_RESPONSE
+                || (status == JobApplicationStatus.WITHDRAWN && random.nextBoolean())) {
+            return null;
+        }
+        LocalDate responded = dateApplied.plusDays(1 + random.nextInt(45));
+        return responded.isAfter(until) ? until : responded;
+    }
+
+    private String tagIds(SplittableRandom random) {
+        int size = 1 + random.nextInt(6);
+        boolean[] picked = new boolean[TECHNOLOGIES.size()];
+        StringBuilder array = new StringBuilder("{");
+        for (int i = 0; i < size; i++) {
+            int technology = technologySampler.next(random);
+            if (picked[technology]) {
+                continue;
+            }
+            picked[technology] = true;
+            if (array.length() > 1) {
+                array.append(',');
+            }
+            array.append(technologyTagIds[technology]);
+        }
+        return array.append('}').toString();
+    }
+
+    private String notes(SplittableRandom random) {
+        int length = (int) Math.min(MAX_NOTES_LENGTH, 40 + Math.exp(5.5 + 0.9 * random.nextGaussian()));
+        StringBuilder notes = new StringBuilder(length + 16);
+        while (notes.length() < length) {
+            if (!notes.isEmpty()) {
+                notes.append(random.nextInt(12) == 0 ? ". " : " ");
+            }
+            notes.append(NOTE_WORDS.get(random.nextInt(NOTE_WORDS.size())));
+        }
+        notes.setLength(Math.min(notes.length(), MAX_NOTES_LENGTH));
+        return notes.toString();
+    }
+
+    private static StringBuilder quoted(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        return out.append('"');
+    }
+}
@@ -0,0 +1,79 @@
+package dev.zac.jobTracker.dataset;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SplittableRandom;
+
+/**
+ * Picks indexes in proportion to fixed weights in constant time (Walker's alias method).
+ * Instances are immutable and can be shared between threads, each with its own random source.
+ */
+final class WeightedSampler {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * Build the alias table for the given weights.
+     *
+     * @param weights non-negative weights, at least one of them positive
+     */
+    WeightedSampler(double[] weights) {
+        int n = weights.length;
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+
+        probability = new double[n];
+        alias = new int[n];
+        double[] scaled = new double[n];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            (scaled[i] < 1 ? small : large).push(i);
+        }
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            (scaled[more] < 1 ? small : large).push(more);
+        }
+        // Whatever is left is 1 up to rounding error
+        while (!large.isEmpty()) {
+            probability[large.pop()] = 1;
+        }
+        while (!small.isEmpty()) {
+            probability[small.pop()] = 1;
+        }
+    }
+
+    /**
+     * Build a sampler where the item at rank r has weight 1 / (r + 1)^exponent.
+     *
+     * @param size number of items
+     * @param exponent how quickly popularity falls off with rank
+     * @return the sampler
+     */
+    static WeightedSampler zipf(int size, double exponent) {
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = 1 / Math.pow(i + 1, exponent);
+        }
+        return new WeightedSampler(weights);
+    }
+
+    /**
+     * Pick an index.
+     *
+     * @param random the caller's random source
+     * @return an index between 0 and the number of weights, exclusive
+     */
+    int next(SplittableRandom random) {
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+}
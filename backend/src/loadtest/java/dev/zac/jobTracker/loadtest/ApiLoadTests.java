@@ -0,0 +1,146 @@
+package dev.zac.jobTracker.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Boots the application on a random port against Postgres, seeds one account per virtual user
+ * and drives a weighted mix of auth, read and CRUD requests with each user's own JWT.
+ * Prints throughput and latency percentiles per endpoint and fails when a p99 budget is exceeded.
+ *
+ * <p>Run with {@code mvn -Ploadtest test}. A Postgres container is started unless
+ * {@code -Dloadtest.datasource.url} (with {@code .username} and {@code .password}) points at an
+ * existing database; accounts are created with unique emails so the same database can be reused.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@EnabledIf("databaseAvailable")
+class ApiLoadTests {
+
+	private static final String DATASOURCE_URL_PROPERTY = "loadtest.datasource.url";
+
+	private static PostgreSQLContainer<?> postgres;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private LoadTestProperties properties;
+
+	@TestConfiguration
+	@EnableConfigurationProperties(LoadTestProperties.class)
+	static class LoadTestConfiguration {
+	}
+
+	static boolean databaseAvailable() {
+		return System.getProperty(DATASOURCE_URL_PROPERTY) != null || DockerClientFactory.instance().isDockerAvailable();
+	}
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		String url = System.getProperty(DATASOURCE_URL_PROPERTY);
+		if (url != null) {
+			registry.add("spring.datasource.url", () -> url);
+			registry.add("spring.datasource.username", () -> System.getProperty("loadtest.datasource.username", ""));
+			registry.add("spring.datasource.password", () -> System.getProperty("loadtest.datasource.password", ""));
+			return;
+		}
+		postgres = new PostgreSQLContainer<>("postgres:15.3");
+		postgres.start();
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+	}
+
+	@AfterAll
+	static void stopDatabase() {
+		if (postgres != null) {
+			postgres.stop();
+		}
+	}
+
+	@Test
+	void mixedWorkloadStaysWithinLatencyBudgets() throws Exception {
+		HttpClient httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(5))
+				.build();
+		URI baseUri = URI.create("http://localhost:" + port);
+		long runId = System.currentTimeMillis();
+
+		List<VirtualUser> users = new ArrayList<>(properties.virtualUsers());
+		for (int i = 0; i < properties.virtualUsers(); i++) {
+			users.add(new VirtualUser(httpClient, objectMapper, baseUri, "loadtest-" + runId + "-" + i + "@example.com", runId + i));
+		}
+		runOnVirtualThreads(users, user -> user.register(properties.seedApplicationsPerUser()));
+
+		runWorkload(users, properties.warmup(), new LatencyStats());
+		LatencyStats stats = new LatencyStats();
+		runWorkload(users, properties.duration(), stats);
+
+		String report = stats.report(properties.duration());
+		System.out.println(report);
+		assertThat(stats.totalErrors()).as(report).isZero();
+		assertThat(stats.budgetViolations(properties.p99Budgets())).as(report).isEmpty();
+	}
+
+	/**
+	 * Let every user issue requests back to back until the phase ends.
+	 *
+	 * @param users the virtual users
+	 * @param duration how long the phase lasts
+	 * @param stats where to record latencies
+	 */
+	private void runWorkload(List<VirtualUser> users, Duration duration, LatencyStats stats) throws Exception {
+		int totalWeight = properties.weights().values().stream().mapToInt(Integer::intValue).sum();
+		long deadline = System.nanoTime() + duration.toNanos();
+		runOnVirtualThreads(users, user -> {
+			while (System.nanoTime() < deadline) {
+				Operation operation = user.nextOperation(properties.weights(), totalWeight);
+				long start = System.nanoTime();
+				boolean success = user.execute(operation);
+				stats.record(operation, System.nanoTime() - start, success);
+			}
+		});
+	}
+
+	private void runOnVirtualThreads(List<VirtualUser> users, Consumer<VirtualUser> task) throws Exception {
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<?>> futures = new ArrayList<>(users.size());
+			for (VirtualUser user : users) {
+				futures.add(executor.submit(() -> task.accept(user)));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+	}
+}
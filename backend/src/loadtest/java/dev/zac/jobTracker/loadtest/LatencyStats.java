@@ -0,0 +1,109 @@
+package dev.zac.jobTracker.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Thread-safe latency and error counts per operation for one phase of a load test run.
+ */
+class LatencyStats {
+
+	private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+	private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+	LatencyStats() {
+		for (Operation operation : Operation.values()) {
+			latencies.put(operation, new ConcurrentHistogram(3));
+			errors.put(operation, new LongAdder());
+		}
+	}
+
+	/**
+	 * Record a completed request.
+	 *
+	 * @param operation the operation
+	 * @param nanos the time from sending the request to reading the whole response
+	 * @param success whether the response had a 2xx status
+	 */
+	void record(Operation operation, long nanos, boolean success) {
+		latencies.get(operation).recordValue(nanos);
+		if (!success) {
+			errors.get(operation).increment();
+		}
+	}
+
+	/**
+	 * Count failed requests across all operations.
+	 *
+	 * @return the number of non-2xx responses
+	 */
+	long totalErrors() {
+		return errors.values().stream().mapToLong(LongAdder::sum).sum();
+	}
+
+	/**
+	 * Find the operations whose p99 latency is above their budget.
+	 *
+	 * @param p99Budgets the budget per operation
+	 * @return a description of each violation, empty when every budget was met
+	 */
+	List<String> budgetViolations(Map<Operation, Duration> p99Budgets) {
+		List<String> violations = new ArrayList<>();
+		p99Budgets.forEach((operation, budget) -> {
+			Histogram histogram = latencies.get(operation);
+			if (histogram.getTotalCount() == 0) {
+				return;
+			}
+			long p99 = histogram.getValueAtPercentile(99);
+			if (p99 > budget.toNanos()) {
+				violations.add("%s p99 %.1f ms exceeds budget of %d ms"
+						.formatted(operation.getEndpoint(), millis(p99), budget.toMillis()));
+			}
+		});
+		return violations;
+	}
+
+	/**
+	 * Format throughput and latency percentiles for every operation that was exercised.
+	 *
+	 * @param elapsed the length of the measured phase
+	 * @return a table with one row per operation
+	 */
+	String report(Duration elapsed) {
+		double seconds = elapsed.toNanos() / 1e9;
+		StringBuilder report = new StringBuilder(String.format("%n%-45s %9s %7s %9s %9s %9s %9s %9s%n",
+				"endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+		long totalRequests = 0;
+		for (Operation operation : Operation.values()) {
+			Histogram histogram = latencies.get(operation);
+			long count = histogram.getTotalCount();
+			if (count == 0) {
+				continue;
+			}
+			totalRequests += count;
+			report.append(String.format("%-45s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+					operation.getEndpoint(),
+					count,
+					errors.get(operation).sum(),
+					count / seconds,
+					millis(histogram.getValueAtPercentile(50)),
+					millis(histogram.getValueAtPercentile(95)),
+					millis(histogram.getValueAtPercentile(99)),
+					millis(histogram.getMaxValue())));
+		}
+		report.append(String.format("%-45s %9d %7d %9.1f%n", "total", totalRequests, totalErrors(), totalRequests / seconds));
+		return report.toString();
+	}
+
+	private static double millis(long nanos) {
+		return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+}
@@ -0,0 +1,27 @@
+package dev.zac.jobTracker.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Load test settings bound from the {@code loadtest} prefix.
+ *
+ * @param virtualUsers number of concurrent users, each with its own account and JWT
+ * @param seedApplicationsPerUser job applications created for every user before the run
+ * @param warmup how long to run the workload before measuring
+ * @param duration how long to measure
+ * @param weights relative share of each operation in the workload
+ * @param p99Budgets the highest acceptable p99 latency for each operation
+ */
+@ConfigurationProperties(prefix = "loadtest")
+record LoadTestProperties(
+	int virtualUsers,
+	int seedApplicationsPerUser,
+	Duration warmup,
+	Duration duration,
+	Map<Operation, Integer> weights,
+	Map<Operation, Duration> p99Budgets
+) {
+}
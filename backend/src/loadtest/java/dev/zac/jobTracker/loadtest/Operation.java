@@ -0,0 +1,28 @@
+package dev.zac.jobTracker.loadtest;
+
+/**
+ * Requests issued by a virtual user during the mixed workload.
+ */
+enum Operation {
+
+	LOGIN("POST /api/auth/login"),
+	LIST("GET /api/job-applications"),
+	SEARCH("GET /api/job-applications/search"),
+	FULL_TEXT_SEARCH("GET /api/job-applications/search/full-text"),
+	DATE_RANGE("GET /api/job-applications/date-range"),
+	STATISTICS("GET /api/job-applications/statistics"),
+	GET("GET /api/job-applications/{id}"),
+	CREATE("POST /api/job-applications"),
+	UPDATE("PUT /api/job-applications/{id}"),
+	DELETE("DELETE /api/job-applications/{id}");
+
+	private final String endpoint;
+
+	Operation(String endpoint) {
+		this.endpoint = endpoint;
+	}
+
+	String getEndpoint() {
+		return endpoint;
+	}
+}
@@ -0,0 +1,265 @@
+package dev.zac.jobTracker.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.zac.jobTracker.dto.auth.LoginRequestDto;
+import dev.zac.jobTracker.dto.auth.RegisterRequestDto;
+import dev.zac.jobTracker.dto.jobApplication.CreateJobApplicationDto;
+import dev.zac.jobTracker.dto.jobApplication.UpdateJobApplicationDto;
+import dev.zac.jobTracker.enums.JobApplicationStatus;
+
+/**
+ * One simulated user with its own account, JWT and job applications.
+ * Each instance is driven by a single thread, so its state needs no synchronization.
+ */
+class VirtualUser {
+
+	private static final String PASSWORD = "load-test-password";
+
+	private static final int BULK_CHUNK_SIZE = 1_000;
+
+	private static final LocalDate FIRST_DATE_APPLIED = LocalDate.of(2021, 1, 1);
+
+	private static final int DATE_SPAN_DAYS = 1_460;
+
+	private static final List<String> TECHNOLOGIES = List.of(
+			"Java", "Spring Boot", "PostgreSQL", "Kafka", "Kubernetes", "React", "Angular", "Go", "AWS", "Terraform");
+
+	private static final List<String> SEARCH_TERMS = List.of("java", "kafka", "remote", "platform", "recruiter");
+
+	private static final JobApplicationStatus[] STATUSES = JobApplicationStatus.values();
+
+	private final HttpClient httpClient;
+	private final ObjectMapper objectMapper;
+	private final URI baseUri;
+	private final String email;
+	private final SplittableRandom random;
+	private final List<Long> applicationIds = new ArrayList<>();
+	private String token;
+
+	VirtualUser(HttpClient httpClient, ObjectMapper objectMapper, URI baseUri, String email, long seed) {
+		this.httpClient = httpClient;
+		this.objectMapper = objectMapper;
+		this.baseUri = baseUri;
+		this.email = email;
+		this.random = new SplittableRandom(seed);
+	}
+
+	/**
+	 * Register the account and create its seed applications through the bulk endpoint.
+	 *
+	 * @param applications number of applications to create
+	 */
+	void register(int applications) {
+		RegisterRequestDto registerRequest = RegisterRequestDto.builder()
+				.name("Load Test User")
+				.email(email)
+				.password(PASSWORD)
+				.build();
+		HttpResponse<byte[]> response = sendRetryingWhenBusy(post("/api/auth/register", registerRequest, false));
+		token = readTree(expectSuccess(response, "register")).get("token").asText();
+
+		for (int created = 0; created < applications; created += BULK_CHUNK_SIZE) {
+			int chunkSize = Math.min(BULK_CHUNK_SIZE, applications - created);
+			List<CreateJobApplicationDto> chunk = new ArrayList<>(chunkSize);
+			for (int i = 0; i < chunkSize; i++) {
+				chunk.add(randomApplication());
+			}
+			JsonNode result = readTree(expectSuccess(
+					sendRetryingWhenBusy(post("/api/job-applications/bulk", chunk, true)), "bulk create"));
+			result.get("created_ids").forEach(id -> applicationIds.add(id.asLong()));
+		}
+	}
+
+	/**
+	 * Pick the next operation according to the configured weights.
+	 *
+	 * @param weights relative share of each operation
+	 * @param totalWeight sum of all weights
+	 * @return the operation to run
+	 */
+	Operation nextOperation(Map<Operation, Integer> weights, int totalWeight) {
+		int pick = random.nextInt(totalWeight);
+		for (Map.Entry<Operation, Integer> weight : weights.entrySet()) {
+			pick -= weight.getValue();
+			if (pick < 0) {
+				// Operations on an existing application need one, so create it first
+				boolean needsApplication = weight.getKey() == Operation.GET
+						|| weight.getKey() == Operation.UPDATE
+						|| weight.getKey() == Operation.DELETE;
+				return needsApplication && applicationIds.isEmpty() ? Operation.CREATE : weight.getKey();
+			}
+		}
+		throw new IllegalStateException("Weights do not add up to " + totalWeight);
+	}
+
+	/**
+	 * Send the request for an operation and wait for the complete response.
+	 *
+	 * @param operation the operation to run
+	 * @return true if the server answered with a 2xx status
+	 */
+	boolean execute(Operation operation) {
+		HttpResponse<byte[]> response = switch (operation) {
+			case LOGIN -> send(post("/api/auth/login", LoginRequestDto.builder().email(email).password(PASSWORD).build(), false));
+			case LIST -> send(get("/api/job-applications?size=20&page=" + random.nextInt(5)));
+			case SEARCH -> send(get("/api/job-applications/search?size=20&company="
+					+ encode("Company " + random.nextInt(200))));
+			case FULL_TEXT_SEARCH -> send(get("/api/job-applications/search/full-text?size=20&query="
+					+ encode(SEARCH_TERMS.get(random.nextInt(SEARCH_TERMS.size())))));
+			case DATE_RANGE -> {
+				LocalDate start = FIRST_DATE_APPLIED.plusDays(random.nextInt(DATE_SPAN_DAYS));
+				yield send(get("/api/job-applications/date-range?size=20&startDate=" + start
+						+ "&endDate=" + start.plusDays(90)));
+			}
+			case STATISTICS -> send(get("/api/job-applications/statistics"));
+			case GET -> send(get("/api/job-applications/" + randomApplicationId()));
+			case CREATE -> send(post("/api/job-applications", randomApplication(), true));
+			case UPDATE -> send(put("/api/job-applications/" + randomApplicationId(), randomUpdate()));
+			case DELETE -> send(delete("/api/job-applications/" + applicationIds.remove(random.nextInt(applicationIds.size()))));
+		};
+
+		boolean success = response.statusCode() / 100 == 2;
+		if (success && operation == Operation.LOGIN) {
+			token = readTree(response.body()).get("token").asText();
+		} else if (success && operation == Operation.CREATE) {
+			applicationIds.add(readTree(response.body()).get("id").asLong());
+		}
+		return success;
+	}
+
+	private CreateJobApplicationDto randomApplication() {
+		return CreateJobApplicationDto.builder()
+				.company("Company " + random.nextInt(200))
+				.jobTitle("Software Engineer " + random.nextInt(10))
+				.dateApplied(FIRST_DATE_APPLIED.plusDays(random.nextInt(DATE_SPAN_DAYS)))
+				.status(STATUSES[random.nextInt(STATUSES.length)])
+				.technologyStack(randomTechnologies())
+				.requiredExperience(random.nextInt(10))
+				.notes(random.nextBoolean() ? "Recruiter reached out about a remote platform role." : null)
+				.build();
+	}
+
+	private UpdateJobApplicationDto randomUpdate() {
+		return UpdateJobApplicationDto.builder()
+				.company("Company " + random.nextInt(200))
+				.jobTitle("Senior Software Engineer " + random.nextInt(10))
+				.dateApplied(FIRST_DATE_APPLIED.plusDays(random.nextInt(DATE_SPAN_DAYS)))
+				.status(STATUSES[random.nextInt(STATUSES.length)])
+				.lastResponseDate(LocalDate.now())
+				.technologyStack(randomTechnologies())
+				.requiredExperience(random.nextInt(10))
+				.notes("Updated during the load test.")
+				.build();
+	}
+
+	private List<String> randomTechnologies() {
+		int first = random.nextInt(TECHNOLOGIES.size());
+		return List.of(TECHNOLOGIES.get(first), TECHNOLOGIES.get((first + 3) % TECHNOLOGIES.size()));
+	}
+
+	private Long randomApplicationId() {
+		return applicationIds.get(random.nextInt(applicationIds.size()));
+	}
+
+	private HttpRequest get(String path) {
+		return authorized(path).GET().build();
+	}
+
+	private HttpRequest post(String path, Object body, boolean authenticated) {
+		HttpRequest.Builder builder = authenticated ? authorized(path) : HttpRequest.newBuilder(baseUri.resolve(path));
+		return builder.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofByteArray(writeJson(body)))
+				.build();
+	}
+
+	private HttpRequest put(String path, Object body) {
+		return authorized(path).header("Content-Type", "application/json")
+				.PUT(HttpRequest.BodyPublishers.ofByteArray(writeJson(body)))
+				.build();
+	}
+
+	private HttpRequest delete(String path) {
+		return authorized(path).DELETE().build();
+	}
+
+	private HttpRequest.Builder authorized(String path) {
+		return HttpRequest.newBuilder(baseUri.resolve(path)).header("Authorization", "Bearer " + token);
+	}
+
+	private HttpResponse<byte[]> send(HttpRequest request) {
+		try {
+			return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for " + request.uri(), ex);
+		}
+	}
+
+	/**
+	 * Send a seeding request, waiting as told by Retry-After while the server sheds load.
+	 *
+	 * @param request the request
+	 * @return the first response that is not 503
+	 */
+	private HttpResponse<byte[]> sendRetryingWhenBusy(HttpRequest request) {
+		HttpResponse<byte[]> response = send(request);
+		while (response.statusCode() == 503) {
+			long retryAfterSeconds = response.headers().firstValueAsLong("Retry-After").orElse(1);
+			try {
+				Thread.sleep(Duration.ofSeconds(retryAfterSeconds));
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting to retry " + request.uri(), ex);
+			}
+			response = send(request);
+		}
+		return response;
+	}
+
+	private byte[] expectSuccess(HttpResponse<byte[]> response, String step) {
+		if (response.statusCode() / 100 != 2) {
+			throw new IllegalStateException("Seeding failed at " + step + " with status " + response.statusCode()
+					+ ": " + new String(response.body(), StandardCharsets.UTF_8));
+		}
+		return response.body();
+	}
+
+	private byte[] writeJson(Object body) {
+		try {
+			return objectMapper.writeValueAsBytes(body);
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private JsonNode readTree(byte[] body) {
+		try {
+			return objectMapper.readTree(body);
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static String encode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+}
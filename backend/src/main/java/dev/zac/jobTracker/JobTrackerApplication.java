@@ -3,11 +3,19 @@ package dev.zac.jobTracker;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+import dev.zac.jobTracker.config.BulkheadProperties;
+import dev.zac.jobTracker.config.CacheProperties;
 import dev.zac.jobTracker.config.JwtProperties;
+import dev.zac.jobTracker.config.PasswordHashingProperties;
+import dev.zac.jobTracker.config.ResultCacheProperties;
+import dev.zac.jobTracker.config.VirtualThreadProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, CacheProperties.class, BulkheadProperties.class,
+		VirtualThreadProperties.class, PasswordHashingProperties.class, ResultCacheProperties.class})
+@EnableScheduling
 public class JobTrackerApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,204 @@
+package dev.zac.jobTracker.concurrency;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+import dev.zac.jobTracker.config.BulkheadProperties;
+import dev.zac.jobTracker.exceptions.GlobalExceptionHandler.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Limits how many API requests run at once to the number of database connections.
+ * With virtual threads Tomcat no longer caps concurrency, so without this every request
+ * would wait inside Hikari; here the excess waits cheaply on a fair semaphore instead and
+ * is answered with 503 once the acquire timeout passes. Enabled by default only in
+ * virtual-thread mode, where Tomcat's thread pool no longer bounds the load.
+ * Authentication requests spend their time hashing passwords rather than holding a connection,
+ * so they take no permit. An export holds its connection for as long as it streams, possibly
+ * minutes, so exports take permits from a small bulkhead of their own instead of crowding out
+ * short requests.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.bulkhead", name = "enabled", havingValue = "true")
+@Slf4j
+public class RequestBulkheadFilter extends OncePerRequestFilter {
+
+    private static final String EXPORT_PATH = "/api/job-applications/export";
+
+    private final Bulkhead requests;
+    private final Bulkhead exports;
+    private final long acquireTimeoutNanos;
+    private final ObjectMapper objectMapper;
+
+    public RequestBulkheadFilter(BulkheadProperties properties, DataSource dataSource,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        int maxConcurrentExports = properties.maxConcurrentExports();
+        // Sized from the pool, the two bulkheads together never ask for more connections than it has
+        int maxConcurrentRequests = properties.maxConcurrentRequests() > 0
+                ? properties.maxConcurrentRequests()
+                : Math.max(1, poolSize(dataSource) - maxConcurrentExports);
+        this.requests = Bulkhead.of("requests", maxConcurrentRequests, meterRegistry);
+        this.exports = Bulkhead.of("exports", maxConcurrentExports, meterRegistry);
+        this.acquireTimeoutNanos = properties.acquireTimeout().toNanos();
+        this.objectMapper = objectMapper;
+        log.info("Request bulkhead allows {} concurrent API requests and {} concurrent exports",
+                maxConcurrentRequests, maxConcurrentExports);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith("/api/")
+                || path.startsWith("/api/health")
+                || path.startsWith("/api/auth/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Bulkhead bulkhead = path.equals(EXPORT_PATH) ? exports : requests;
+        Semaphore permits = bulkhead.permits();
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            bulkhead.rejected().increment();
+            writeServiceUnavailable(response);
+            return;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // An async request keeps its connection after this thread returns, so keep the permit too
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingAsyncListener(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    /**
+     * Answer a request that could not get a permit.
+     *
+     * @param response the response to write
+     */
+    private void writeServiceUnavailable(HttpServletResponse response) throws IOException {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message("The server is busy, please retry shortly")
+                .build();
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader("Retry-After", "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * Read the connection pool size the bulkhead is matched to.
+     *
+     * @param dataSource the application data source
+     * @return the maximum number of pooled connections
+     */
+    private static int poolSize(DataSource dataSource) {
+        try {
+            return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Set app.bulkhead.max-concurrent-requests when not using Hikari", ex);
+        }
+    }
+
+    /**
+     * A fair semaphore with its metrics, tagged with the kind of request it admits.
+     */
+    private record Bulkhead(Semaphore permits, Counter rejected) {
+
+        static Bulkhead of(String name, int maxConcurrent, MeterRegistry meterRegistry) {
+            Semaphore permits = new Semaphore(maxConcurrent, true);
+            Counter rejected = Counter.builder("jobtracker.bulkhead.rejected")
+                    .tag("bulkhead", name)
+                    .description("Requests answered with 503 because no permit became free in time")
+                    .register(meterRegistry);
+            Gauge.builder("jobtracker.bulkhead.available", permits, Semaphore::availablePermits)
+                    .tag("bulkhead", name)
+                    .description("Permits not held by a running request")
+                    .register(meterRegistry);
+            Gauge.builder("jobtracker.bulkhead.queued", permits, Semaphore::getQueueLength)
+                    .tag("bulkhead", name)
+                    .description("Requests waiting for a permit")
+                    .register(meterRegistry);
+            return new Bulkhead(permits, rejected);
+        }
+    }
+
+    /**
+     * Releases the permit once an async request finishes, however it ends.
+     */
+    private record ReleasingAsyncListener(Runnable release) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // The same permit covers the restarted cycle
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
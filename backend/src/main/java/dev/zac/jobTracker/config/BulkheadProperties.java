@@ -0,0 +1,23 @@
+package dev.zac.jobTracker.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+@ConfigurationProperties(prefix = "app.bulkhead")
+@Validated
+public record BulkheadProperties(
+    // Defaults to on only with virtual threads, see application.yml
+    @DefaultValue("false") boolean enabled,
+    // 0 sizes the bulkhead to the Hikari pool, less the export permits
+    @DefaultValue("0") @PositiveOrZero int maxConcurrentRequests,
+    // Exports hold a connection for as long as they stream, so they get their own small bulkhead
+    @DefaultValue("2") @Positive int maxConcurrentExports,
+    @DefaultValue("5s") @NotNull Duration acquireTimeout
+) {}
@@ -0,0 +1,59 @@
+package dev.zac.jobTracker.config;
+
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Hibernate second-level cache configuration backed by Caffeine through JCache.
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String USERS_REGION = "users";
+    public static final String USERS_BY_EMAIL_REGION = "users-by-email";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager jCacheManager(CacheProperties cacheProperties) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        createRegion(cacheManager, USERS_REGION, cacheProperties.usersMaximumSize());
+        createRegion(cacheManager, USERS_BY_EMAIL_REGION, cacheProperties.usersMaximumSize());
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager jCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, jCacheManager);
+    }
+
+    /**
+     * Create a size-bounded region that records native Caffeine statistics.
+     *
+     * @param cacheManager the cache manager
+     * @param name the region name
+     * @param maximumSize the maximum number of entries
+     */
+    private void createRegion(CacheManager cacheManager, String name, long maximumSize) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setNativeStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -0,0 +1,13 @@
+package dev.zac.jobTracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+
+@ConfigurationProperties(prefix = "app.cache")
+@Validated
+public record CacheProperties(
+    @DefaultValue("300000") @Positive long usersMaximumSize
+) {}
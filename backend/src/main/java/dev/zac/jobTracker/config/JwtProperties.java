@@ -1,6 +1,7 @@
 package dev.zac.jobTracker.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.validation.annotation.Validated;
 
 import jakarta.validation.constraints.NotBlank;
@@ -12,5 +13,6 @@ import lombok.ToString;
 public record JwtProperties(
     @ToString.Exclude
     @NotBlank String secret,
-    @Positive long expiration
-) {}
\ No newline at end of file
+    @Positive long expiration,
+    @DefaultValue("10000") @Positive long verifiedTokenCacheSize
+) {}
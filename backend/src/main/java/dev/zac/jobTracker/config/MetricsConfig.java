@@ -0,0 +1,40 @@
+package dev.zac.jobTracker.config;
+
+import java.util.function.Predicate;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import io.micrometer.core.aop.MeterTagAnnotationHandler;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Metrics configuration for the {@code @Timed} services.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Aspect behind {@code @Timed}, replacing the auto-configured one. Methods returning a
+     * {@link StreamingResponseBody} are skipped: they return before anything is written, so
+     * their bodies record their own time while they run.
+     *
+     * @param meterRegistry the registry for the timers
+     * @param meterTagAnnotationHandler the handler for {@code @MeterTag} parameters, if any
+     * @return the timed aspect
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry,
+            ObjectProvider<MeterTagAnnotationHandler> meterTagAnnotationHandler) {
+        Predicate<ProceedingJoinPoint> returnsStreamingBody = joinPoint -> StreamingResponseBody.class
+                .isAssignableFrom(((MethodSignature) joinPoint.getSignature()).getReturnType());
+        TimedAspect timedAspect = new TimedAspect(meterRegistry, returnsStreamingBody);
+        meterTagAnnotationHandler.ifAvailable(timedAspect::setMeterTagAnnotationHandler);
+        return timedAspect;
+    }
+}
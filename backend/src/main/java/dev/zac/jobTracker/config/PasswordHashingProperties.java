@@ -0,0 +1,19 @@
+package dev.zac.jobTracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+@ConfigurationProperties(prefix = "app.password-hashing")
+@Validated
+public record PasswordHashingProperties(
+    @DefaultValue("10") @Min(4) @Max(31) int bcryptStrength,
+    // 0 uses one thread per available processor
+    @DefaultValue("0") @PositiveOrZero int threads,
+    @DefaultValue("32") @Positive int queueCapacity
+) {}
@@ -0,0 +1,21 @@
+package dev.zac.jobTracker.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+
+@ConfigurationProperties(prefix = "app.result-cache")
+@Validated
+public record ResultCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    // Estimated memory all cached results may take together
+    @DefaultValue("64MB") @NotNull DataSize maximumSize,
+    // How long a read waits for a refresh before settling for the previous result
+    @DefaultValue("250ms") @NotNull Duration staleAfter,
+    @DefaultValue("10m") @NotNull Duration expireAfterAccess
+) {}
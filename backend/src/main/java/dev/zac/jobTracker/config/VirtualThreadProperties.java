@@ -0,0 +1,15 @@
+package dev.zac.jobTracker.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+
+@ConfigurationProperties(prefix = "app.virtual-threads")
+@Validated
+public record VirtualThreadProperties(
+    @DefaultValue("20ms") @NotNull Duration pinnedThreshold
+) {}
@@ -55,13 +55,15 @@ public class AuthController {
     }
 
     /**
-     * Logout endpoint (mainly for frontend to clear tokens).
-     * Since we're using stateless JWT, no server-side action needed.
+     * Logout endpoint, revoking the bearer token the request was sent with.
+     * The frontend still clears its stored token.
      *
      * @return success response
      */
     @PostMapping("/logout")
     public ResponseEntity<String> logout() {
+        authService.logout();
+        
         return ResponseEntity.ok("Logged out successfully");
     }
 
@@ -4,18 +4,28 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.RequiredArgsConstructor;
+
 /**
  * Health check controller for monitoring application status.
  */
 @RestController
 @RequestMapping("/api/health")
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final CacheManager jCacheManager;
+
     /**
      * Basic health check endpoint.
      *
@@ -53,7 +63,33 @@ public class HealthController {
         memory.put("total", runtime.totalMemory());
         memory.put("max", runtime.maxMemory());
         health.put("memory", memory);
+
+        health.put("cache", cacheStatistics());
         
         return ResponseEntity.ok(health);
     }
+
+    /**
+     * Collect hit, miss and eviction statistics for each second-level cache region.
+     *
+     * @return statistics keyed by region name
+     */
+    private Map<String, Object> cacheStatistics() {
+        Map<String, Object> regions = new HashMap<>();
+        for (String name : jCacheManager.getCacheNames()) {
+            Cache<Object, Object> cache = jCacheManager.getCache(name);
+            com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache =
+                    cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+            CacheStats stats = nativeCache.stats();
+
+            Map<String, Object> region = new HashMap<>();
+            region.put("size", nativeCache.estimatedSize());
+            region.put("hits", stats.hitCount());
+            region.put("misses", stats.missCount());
+            region.put("hitRate", stats.hitRate());
+            region.put("evictions", stats.evictionCount());
+            regions.put(name, region);
+        }
+        return regions;
+    }
 }
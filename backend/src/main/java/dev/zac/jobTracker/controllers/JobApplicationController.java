@@ -1,23 +1,46 @@
 package dev.zac.jobTracker.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
+import dev.zac.jobTracker.dto.common.CursorPageDto;
+import dev.zac.jobTracker.dto.common.PageResponseDto;
+import dev.zac.jobTracker.dto.jobApplication.ApplicationAnalyticsDto;
+import dev.zac.jobTracker.dto.jobApplication.BulkCreateRequestDto;
+import dev.zac.jobTracker.dto.jobApplication.BulkCreateResultDto;
 import dev.zac.jobTracker.dto.jobApplication.CreateJobApplicationDto;
 import dev.zac.jobTracker.dto.jobApplication.JobApplicationDto;
+import dev.zac.jobTracker.dto.jobApplication.TechnologyTagCountDto;
 import dev.zac.jobTracker.dto.jobApplication.UpdateJobApplicationDto;
+import dev.zac.jobTracker.enums.ExportFormat;
+import dev.zac.jobTracker.enums.JobApplicationField;
 import dev.zac.jobTracker.enums.JobApplicationStatus;
+import dev.zac.jobTracker.services.JobApplicationResultCache;
 import dev.zac.jobTracker.services.JobApplicationService;
+import dev.zac.jobTracker.web.ETags;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.LongFunction;
 
 /**
  * REST controller for job application operations.
@@ -28,6 +51,11 @@ import java.util.Map;
 @Slf4j
 public class JobApplicationController {
 
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    // Clients may keep a copy but must revalidate it with the ETag before every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final JobApplicationService jobApplicationService;
 
     /**
@@ -43,56 +71,119 @@ public class JobApplicationController {
         
         JobApplicationDto createdApplication = jobApplicationService.createJobApplication(createRequest);
         
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdApplication);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ETags.forApplication(createdApplication))
+                .body(createdApplication);
+    }
+
+    /**
+     * Create many job applications in one request.
+     *
+     * @param bulkRequest the creation requests
+     * @return result with created IDs and per-item validation errors
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateResultDto> createJobApplications(
+            @RequestBody BulkCreateRequestDto bulkRequest) {
+        List<CreateJobApplicationDto> createRequests = bulkRequest.getItems();
+        log.info("Bulk creating {} job applications", createRequests.size());
+        
+        BulkCreateResultDto result = jobApplicationService.createJobApplications(createRequests);
+        
+        return ResponseEntity.ok(result);
     }
 
     /**
      * Get all job applications for the current user.
      *
      * @param pageable pagination parameters
-     * @return page of job application DTOs
+     * @param fields comma-separated fields to return, optional
+     * @param request the web request, for conditional headers
+     * @return page of job application DTOs, or null when not modified
      */
     @GetMapping
-    public ResponseEntity<Page<JobApplicationDto>> getAllJobApplications(
-            @PageableDefault(size = 20, sort = "dateApplied") Pageable pageable) {
+    public ResponseEntity<PageResponseDto<JobApplicationDto>> getAllJobApplications(
+            @PageableDefault(size = 20, sort = "dateApplied") Pageable pageable,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
         log.info("Getting all job applications for current user");
         
-        Page<JobApplicationDto> applications = jobApplicationService.getCurrentUserJobApplications(pageable);
-        
-        return ResponseEntity.ok(applications);
+        Set<JobApplicationField> requestedFields = JobApplicationField.parse(fields);
+        return collectionResponse(request,
+                version -> jobApplicationService.getCurrentUserJobApplications(pageable, requestedFields, version));
     }
 
     /**
      * Get a specific job application by ID.
+     * Answers 304 without writing the body when If-None-Match holds the current ETag.
      *
      * @param applicationId the application ID
-     * @return job application DTO
+     * @param request the web request, for conditional headers
+     * @return job application DTO, or null when not modified
      */
     @GetMapping("/{applicationId}")
-    public ResponseEntity<JobApplicationDto> getJobApplicationById(@PathVariable Long applicationId) {
+    public ResponseEntity<JobApplicationDto> getJobApplicationById(@PathVariable Long applicationId, WebRequest request) {
         log.info("Getting job application with ID: {}", applicationId);
         
         JobApplicationDto application = jobApplicationService.getJobApplicationById(applicationId);
+        String eTag = ETags.forApplication(application);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         
-        return ResponseEntity.ok(application);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .body(application);
     }
 
     /**
      * Update a job application.
+     * With If-Match, the update only applies to the version the client read and otherwise fails with 412.
      *
      * @param applicationId the application ID
      * @param updateRequest the update request
+     * @param ifMatch the ETags the client's copy may have, optional
      * @return updated job application DTO
      */
     @PutMapping("/{applicationId}")
     public ResponseEntity<JobApplicationDto> updateJobApplication(
             @PathVariable Long applicationId,
-            @Valid @RequestBody UpdateJobApplicationDto updateRequest) {
+            @Valid @RequestBody UpdateJobApplicationDto updateRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Updating job application with ID: {}", applicationId);
         
-        JobApplicationDto updatedApplication = jobApplicationService.updateJobApplication(applicationId, updateRequest);
+        JobApplicationDto updatedApplication = jobApplicationService.updateJobApplication(
+                applicationId, updateRequest, ETags.parseIfMatch(ifMatch, applicationId));
+        
+        return ResponseEntity.ok()
+                .eTag(ETags.forApplication(updatedApplication))
+                .body(updatedApplication);
+    }
+
+    /**
+     * Partially update a job application with a JSON Merge Patch.
+     * Only the fields present in the patch change; with If-Match, the patch only applies to the
+     * version the client read and otherwise fails with 412.
+     *
+     * @param applicationId the application ID
+     * @param patch the merge patch
+     * @param ifMatch the ETags the client's copy may have, optional
+     * @return empty response carrying the new ETag
+     */
+    @PatchMapping(value = "/{applicationId}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Void> patchJobApplication(
+            @PathVariable Long applicationId,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("Patching job application with ID: {}", applicationId);
+        
+        long version = jobApplicationService.patchJobApplication(
+                applicationId, patch, ETags.parseIfMatch(ifMatch, applicationId));
         
-        return ResponseEntity.ok(updatedApplication);
+        return ResponseEntity.noContent()
+                .eTag(ETags.forApplication(applicationId, version))
+                .build();
     }
 
     /**
@@ -110,22 +201,48 @@ public class JobApplicationController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Export all job applications for the current user as a file download.
+     *
+     * @param format the export format
+     * @return streamed export
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportJobApplications(
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+        log.info("Exporting job applications as: {}", format);
+        
+        StreamingResponseBody body = jobApplicationService.exportJobApplications(format);
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+                .filename("job-applications." + format.getFileExtension())
+                .build();
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                .body(body);
+    }
+
     /**
      * Get job applications by status.
      *
      * @param status the application status
      * @param pageable pagination parameters
-     * @return page of job application DTOs
+     * @param fields comma-separated fields to return, optional
+     * @param request the web request, for conditional headers
+     * @return page of job application DTOs, or null when not modified
      */
     @GetMapping("/status/{status}")
-    public ResponseEntity<Page<JobApplicationDto>> getJobApplicationsByStatus(
+    public ResponseEntity<PageResponseDto<JobApplicationDto>> getJobApplicationsByStatus(
             @PathVariable JobApplicationStatus status,
-            @PageableDefault(size = 20, sort = "dateApplied") Pageable pageable) {
+            @PageableDefault(size = 20, sort = "dateApplied") Pageable pageable,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
         log.info("Getting job applications with status: {}", status);
         
-        Page<JobApplicationDto> applications = jobApplicationService.getJobApplicationsByStatus(status, pageable);
-        
-        return ResponseEntity.ok(applications);
+        Set<JobApplicationField> requestedFields = JobApplicationField.parse(fields);
+        return collectionResponse(request,
+                version -> jobApplicationService.getJobApplicationsByStatus(status, pageable, requestedFields, version));
     }
 
     /**
@@ -133,17 +250,72 @@ public class JobApplicationController {
      *
      * @param company the company name search term
      * @param pageable pagination parameters
-     * @return page of job application DTOs
+     * @param fields comma-separated fields to return, optional
+     * @param request the web request, for conditional headers
+     * @return page of job application DTOs, or null when not modified
      */
     @GetMapping("/search")
-    public ResponseEntity<Page<JobApplicationDto>> searchJobApplicationsByCompany(
+    public ResponseEntity<PageResponseDto<JobApplicationDto>> searchJobApplicationsByCompany(
             @RequestParam String company,
-            @PageableDefault(size = 20, sort = "dateApplied") Pageable pageable) {
+            @PageableDefault(size = 20, sort = "dateApplied") Pageable pageable,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
         log.info("Searching job applications for company: {}", company);
         
-        Page<JobApplicationDto> applications = jobApplicationService.searchJobApplicationsByCompany(company, pageable);
+        Set<JobApplicationField> requestedFields = JobApplicationField.parse(fields);
+        return collectionResponse(request,
+                version -> jobApplicationService.searchJobApplicationsByCompany(company, pageable, requestedFields, version));
+    }
+
+    /**
+     * Search job applications by company, job title, technology stack and notes, most relevant first.
+     *
+     * @param query the search query
+     * @param cursor the cursor returned with the previous slice
+     * @param size the slice size
+     * @param request the web request, for conditional headers
+     * @return cursor page of job application DTOs, or null when not modified
+     */
+    @GetMapping("/search/full-text")
+    public ResponseEntity<CursorPageDto<JobApplicationDto>> searchJobApplications(
+            @RequestParam String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest request) {
+        log.info("Full-text searching job applications for: {}", query);
+        
+        return collectionResponse(request, version -> jobApplicationService.searchJobApplications(query, cursor, size));
+    }
+
+    /**
+     * Get job applications that require all of the given technologies.
+     *
+     * @param tags the technology names, repeated or comma-separated
+     * @param pageable pagination parameters
+     * @param request the web request, for conditional headers
+     * @return page of job application DTOs, or null when not modified
+     */
+    @GetMapping("/tagged")
+    public ResponseEntity<PageResponseDto<JobApplicationDto>> getJobApplicationsByTags(
+            @RequestParam List<String> tags,
+            @PageableDefault(size = 20, sort = "dateApplied") Pageable pageable,
+            WebRequest request) {
+        log.info("Getting job applications tagged with: {}", tags);
+        
+        return collectionResponse(request, version -> jobApplicationService.getJobApplicationsByTags(tags, pageable, version));
+    }
+
+    /**
+     * Get how many job applications use each technology, most used first.
+     *
+     * @param request the web request, for conditional headers
+     * @return list of tags with their application counts, or null when not modified
+     */
+    @GetMapping("/tags")
+    public ResponseEntity<List<TechnologyTagCountDto>> getTechnologyTagCounts(WebRequest request) {
+        log.info("Getting technology tag counts for current user");
         
-        return ResponseEntity.ok(applications);
+        return collectionResponse(request, jobApplicationService::getTechnologyTagCounts);
     }
 
     /**
@@ -152,31 +324,145 @@ public class JobApplicationController {
      * @param startDate the start date
      * @param endDate the end date
      * @param pageable pagination parameters
-     * @return page of job application DTOs
+     * @param fields comma-separated fields to return, optional
+     * @param request the web request, for conditional headers
+     * @return page of job application DTOs, or null when not modified
      */
     @GetMapping("/date-range")
-    public ResponseEntity<Page<JobApplicationDto>> getJobApplicationsByDateRange(
+    public ResponseEntity<PageResponseDto<JobApplicationDto>> getJobApplicationsByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @PageableDefault(size = 20, sort = "dateApplied") Pageable pageable) {
+            @PageableDefault(size = 20, sort = "dateApplied") Pageable pageable,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
         log.info("Getting job applications between {} and {}", startDate, endDate);
         
-        Page<JobApplicationDto> applications = jobApplicationService.getJobApplicationsByDateRange(startDate, endDate, pageable);
+        Set<JobApplicationField> requestedFields = JobApplicationField.parse(fields);
+        return collectionResponse(request,
+                version -> jobApplicationService.getJobApplicationsByDateRange(startDate, endDate, pageable, requestedFields, version));
+    }
+
+    /**
+     * Scroll through all job applications for the current user, newest first.
+     *
+     * @param cursor the cursor returned with the previous slice
+     * @param size the slice size
+     * @param request the web request, for conditional headers
+     * @return cursor page of job application DTOs, or null when not modified
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageDto<JobApplicationDto>> scrollJobApplications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest request) {
+        log.info("Scrolling job applications for current user");
+        
+        return collectionResponse(request, version -> jobApplicationService.scrollCurrentUserJobApplications(cursor, size));
+    }
+
+    /**
+     * Scroll through job applications by status, newest first.
+     *
+     * @param status the application status
+     * @param cursor the cursor returned with the previous slice
+     * @param size the slice size
+     * @param request the web request, for conditional headers
+     * @return cursor page of job application DTOs, or null when not modified
+     */
+    @GetMapping("/status/{status}/scroll")
+    public ResponseEntity<CursorPageDto<JobApplicationDto>> scrollJobApplicationsByStatus(
+            @PathVariable JobApplicationStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest request) {
+        log.info("Scrolling job applications with status: {}", status);
+        
+        return collectionResponse(request, version -> jobApplicationService.scrollJobApplicationsByStatus(status, cursor, size));
+    }
+
+    /**
+     * Scroll through job applications within a date range, newest first.
+     *
+     * @param startDate the start date
+     * @param endDate the end date
+     * @param cursor the cursor returned with the previous slice
+     * @param size the slice size
+     * @param request the web request, for conditional headers
+     * @return cursor page of job application DTOs, or null when not modified
+     */
+    @GetMapping("/date-range/scroll")
+    public ResponseEntity<CursorPageDto<JobApplicationDto>> scrollJobApplicationsByDateRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest request) {
+        log.info("Scrolling job applications between {} and {}", startDate, endDate);
         
-        return ResponseEntity.ok(applications);
+        return collectionResponse(request, version -> jobApplicationService
+                .scrollJobApplicationsByDateRange(startDate, endDate, cursor, size));
     }
 
     /**
      * Get application statistics for the current user.
      *
-     * @return map of status to count
+     * @param request the web request, for conditional headers
+     * @return map of status to count, or null when not modified
      */
     @GetMapping("/statistics")
-    public ResponseEntity<Map<JobApplicationStatus, Long>> getApplicationStatistics() {
+    public ResponseEntity<Map<JobApplicationStatus, Long>> getApplicationStatistics(WebRequest request) {
         log.info("Getting application statistics for current user");
         
-        Map<JobApplicationStatus, Long> statistics = jobApplicationService.getApplicationStatistics();
+        return collectionResponse(request, jobApplicationService::getApplicationStatistics);
+    }
+
+    /**
+     * Get pipeline analytics for the current user.
+     *
+     * @param weeks the number of weeks of application velocity, up to 104
+     * @return the analytics
+     */
+    @GetMapping("/analytics")
+    public ResponseEntity<ApplicationAnalyticsDto> getApplicationAnalytics(
+            @RequestParam(defaultValue = "12") int weeks) {
+        log.info("Getting application analytics for current user over {} weeks", weeks);
+        
+        return ResponseEntity.ok(jobApplicationService.getApplicationAnalytics(weeks));
+    }
+
+    /**
+     * Answer a read of the current user's job applications, or 304 when If-None-Match holds
+     * the current collection ETag, in which case the query never runs.
+     * The version is read once, before the query, and handed to it so cached results are checked
+     * against the same version the ETag is built from. A concurrent change can therefore only make
+     * the body newer than its ETag, never older. A stale cached body served while the database is
+     * slow carries the ETag of the version it was read at instead.
+     *
+     * @param request the web request, for conditional headers
+     * @param query the query producing the body from the collection version
+     * @return the response, or null when not modified
+     */
+    private <T> ResponseEntity<T> collectionResponse(WebRequest request, LongFunction<T> query) {
+        long version = jobApplicationService.getCollectionVersion();
+        String eTag = ETags.forCollection(version);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         
-        return ResponseEntity.ok(statistics);
+        T body = query.apply(version);
+        Object staleVersion = request.getAttribute(JobApplicationResultCache.STALE_VERSION_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        if (staleVersion != null && request instanceof NativeWebRequest nativeRequest) {
+            eTag = ETags.forCollection((Long) staleVersion);
+            // checkNotModified already put the current ETag on the response, and that one would be kept
+            HttpServletResponse response = nativeRequest.getNativeResponse(HttpServletResponse.class);
+            if (response != null) {
+                response.setHeader(HttpHeaders.ETAG, eTag);
+            }
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .body(body);
     }
 }
@@ -0,0 +1,39 @@
+package dev.zac.jobTracker.dto.common;
+
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for cursor-paginated responses, without a total count.
+ *
+ * @param <T> the content type
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /**
+     * Build a cursor page from a slice.
+     *
+     * @param slice the slice of results
+     * @param nextCursor the cursor of the next slice, or null if this is the last one
+     * @param <T> the content type
+     * @return cursor page DTO
+     */
+    public static <T> CursorPageDto<T> of(Slice<T> slice, String nextCursor) {
+        return new CursorPageDto<>(slice.getContent(), slice.getSize(), slice.hasNext(), nextCursor);
+    }
+}
@@ -0,0 +1,41 @@
+package dev.zac.jobTracker.dto.common;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for offset-paginated responses.
+ * Carries only what clients page with, instead of the pageable, sort and flag fields of a serialized {@link Page}.
+ *
+ * @param <T> the content type
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponseDto<T> {
+
+    private List<T> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+
+    /**
+     * Build a page response from a page.
+     *
+     * @param page the page of results
+     * @param <T> the content type
+     * @return page response DTO
+     */
+    public static <T> PageResponseDto<T> of(Page<T> page) {
+        return new PageResponseDto<>(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages());
+    }
+}
@@ -0,0 +1,28 @@
+package dev.zac.jobTracker.dto.jobApplication;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a user's pipeline analytics: the funnel through the interview stages, how long
+ * responses take and how many applications go out each week.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationAnalyticsDto {
+
+    private List<FunnelStageDto> funnel;
+    private long respondedApplications;
+    private Double medianResponseDays;
+    private List<WeeklyApplicationsDto> weeklyApplications;
+    private double averageWeeklyApplications;
+    // When the response times and weekly counts were last recomputed; the funnel is always current
+    private LocalDateTime refreshedAt;
+}
@@ -0,0 +1,60 @@
+package dev.zac.jobTracker.dto.jobApplication;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * DTO for a bulk job application creation, sent as a JSON array of creation requests.
+ * The array is read one item at a time and reading stops at the first item past the limit,
+ * so an oversized request is rejected without binding the rest of its body.
+ */
+@Getter
+@AllArgsConstructor
+@JsonDeserialize(using = BulkCreateRequestDto.Deserializer.class)
+public class BulkCreateRequestDto {
+
+    public static final int MAX_ITEMS = 10_000;
+
+    private final List<CreateJobApplicationDto> items;
+
+    static class Deserializer extends StdDeserializer<BulkCreateRequestDto> {
+
+        Deserializer() {
+            super(BulkCreateRequestDto.class);
+        }
+
+        @Override
+        public BulkCreateRequestDto deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (!parser.isExpectedStartArrayToken()) {
+                return (BulkCreateRequestDto) context.handleUnexpectedToken(BulkCreateRequestDto.class, parser);
+            }
+            List<CreateJobApplicationDto> items = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (items.size() == MAX_ITEMS) {
+                    throw new IllegalArgumentException(
+                            "A bulk request can contain at most " + MAX_ITEMS + " job applications");
+                }
+                try {
+                    // Null items are kept, so they are reported at their index like other invalid items
+                    items.add(token == JsonToken.VALUE_NULL
+                            ? null : context.readValue(parser, CreateJobApplicationDto.class));
+                } catch (JsonMappingException ex) {
+                    throw JsonMappingException.wrapWithPath(ex, items, items.size());
+                }
+            }
+            return new BulkCreateRequestDto(items);
+        }
+    }
+}
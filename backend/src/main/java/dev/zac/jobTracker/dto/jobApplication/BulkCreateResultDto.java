@@ -0,0 +1,24 @@
+package dev.zac.jobTracker.dto.jobApplication;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the outcome of a bulk job application creation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateResultDto {
+
+    private int requested;
+    private int created;
+    private int failed;
+    private List<Long> createdIds;
+    private List<BulkItemErrorDto> errors;
+}
@@ -0,0 +1,21 @@
+package dev.zac.jobTracker.dto.jobApplication;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO describing why one item of a bulk request was rejected.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemErrorDto {
+
+    private int index;
+    private Map<String, String> validationErrors;
+}
@@ -0,0 +1,22 @@
+package dev.zac.jobTracker.dto.jobApplication;
+
+import dev.zac.jobTracker.enums.JobApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one stage of the application funnel: how many applications reached it and what
+ * share of those reaching the previous stage that is.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FunnelStageDto {
+
+    private JobApplicationStatus stage;
+    private long applications;
+    private Double conversionRate;
+}
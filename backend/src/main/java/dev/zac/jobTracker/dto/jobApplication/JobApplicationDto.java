@@ -4,6 +4,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import dev.zac.jobTracker.enums.JobApplicationStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,4 +32,22 @@ public class JobApplicationDto {
     private String notes;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // Sent as the ETag header instead of in the body
+    @JsonIgnore
+    private Long version;
+
+    // Stored form of the technology stack, resolved to names by TechnologyTagService
+    @JsonIgnore
+    private Integer[] tagIds;
+
+    /**
+     * Constructor used by the repository projections, which read the tag IDs in place of the technology stack.
+     */
+    public JobApplicationDto(Long id, String company, String jobTitle, LocalDate dateApplied,
+            JobApplicationStatus status, LocalDate lastResponseDate, Integer[] tagIds, Integer requiredExperience,
+            String notes, LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this(id, company, jobTitle, dateApplied, status, lastResponseDate, null, requiredExperience, notes,
+                createdAt, updatedAt, version, tagIds);
+    }
 }
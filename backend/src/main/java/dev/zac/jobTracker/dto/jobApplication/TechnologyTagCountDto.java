@@ -0,0 +1,19 @@
+package dev.zac.jobTracker.dto.jobApplication;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for how many of a user's job applications carry a technology tag.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TechnologyTagCountDto {
+
+    private String tag;
+    private long applications;
+}
@@ -0,0 +1,21 @@
+package dev.zac.jobTracker.dto.jobApplication;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the number of job applications applied for in a week starting on a Monday.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyApplicationsDto {
+
+    private LocalDate weekStart;
+    private long applications;
+}
@@ -0,0 +1,30 @@
+package dev.zac.jobTracker.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Version of a user's whole set of job applications, moved forward by every change to any of them.
+ * Values come from a shared sequence, so they are unique across users.
+ */
+@Entity
+@Table(name = "job_application_collection_versions")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationCollectionVersion {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long version;
+}
@@ -0,0 +1,42 @@
+package dev.zac.jobTracker.entities;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * How long a user's job applications took to get a response, as of the last refresh of the
+ * materialized view behind it.
+ */
+@Entity
+@Immutable
+@Table(name = "job_application_response_times")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationResponseTime {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "responded_applications", nullable = false)
+    private long respondedApplications;
+
+    // Null when none of the user's applications has a response date
+    @Column(name = "median_response_days")
+    private Double medianResponseDays;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+}
@@ -0,0 +1,29 @@
+package dev.zac.jobTracker.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of job applications a user has in a status.
+ * Kept up to date by the job application service in the same transaction as the change.
+ */
+@Entity
+@Table(name = "job_application_status_counts")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationStatusCount {
+
+    @EmbeddedId
+    private ApplicationStatusCountId id;
+
+    @Column(name = "application_count", nullable = false)
+    private long applicationCount;
+}
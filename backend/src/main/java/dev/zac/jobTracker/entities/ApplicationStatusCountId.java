@@ -0,0 +1,29 @@
+package dev.zac.jobTracker.entities;
+
+import java.io.Serializable;
+
+import dev.zac.jobTracker.enums.JobApplicationStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Composite key of an application status count: the user and the status.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationStatusCountId implements Serializable {
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobApplicationStatus status;
+}
@@ -0,0 +1,32 @@
+package dev.zac.jobTracker.entities;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of job applications a user applied for in a week, as of the last refresh of the
+ * materialized view behind it. Weeks without applications have no row.
+ */
+@Entity
+@Immutable
+@Table(name = "job_application_weekly_counts")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationWeeklyCount {
+
+    @EmbeddedId
+    private ApplicationWeeklyCountId id;
+
+    @Column(nullable = false)
+    private long applications;
+}
@@ -2,12 +2,12 @@ package dev.zac.jobTracker.entities;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
 
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.LazyGroup;
 
 import dev.zac.jobTracker.enums.JobApplicationStatus;
+import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -20,7 +20,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
@@ -31,8 +33,12 @@ import lombok.NoArgsConstructor;
 
 /**
  * JobApplication entity representing a job application in the system.
+ * Updates only write the changed columns, so a status change does not rewrite notes or the technology stack.
+ * Notes and the technology stack are left out of entity loads and read together on first access;
+ * this relies on the bytecode enhancement configured in pom.xml.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "job_applications")
 @Data
 @Builder
@@ -40,8 +46,11 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class JobApplication {
 
+    private static final String DETAILS = "details";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_applications_seq")
+    @SequenceGenerator(name = "job_applications_seq", sequenceName = "job_applications_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Company name is required")
@@ -64,14 +73,19 @@ public class JobApplication {
     @Column(name = "last_response_date")
     private LocalDate lastResponseDate;
 
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "technology_stack", columnDefinition = "jsonb")
-    private List<String> technologyStack;
+    // Technology stack as interned tag IDs in stack order, see TechnologyTagService
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup(DETAILS)
+    @Column(name = "tag_ids", nullable = false)
+    @Builder.Default
+    private Integer[] tagIds = new Integer[0];
 
     @PositiveOrZero(message = "Experience must be positive or zero")
     @Column(name = "required_experience")
     private Integer requiredExperience;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup(DETAILS)
     @Column(columnDefinition = "TEXT")
     private String notes;
 
@@ -86,6 +100,10 @@ public class JobApplication {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,33 @@
+package dev.zac.jobTracker.entities;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Interned technology name, referenced by ID from the tag IDs of job applications and users.
+ * Tags are only ever inserted, by TechnologyTagService when a new name is first used, and never
+ * renamed or deleted.
+ */
+@Entity
+@Immutable
+@Table(name = "technology_tags")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TechnologyTag {
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+}
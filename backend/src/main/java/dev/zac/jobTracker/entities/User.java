@@ -4,12 +4,15 @@ import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import dev.zac.jobTracker.config.CacheConfig;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -34,9 +37,12 @@ import lombok.NoArgsConstructor;
 /**
  * User entity representing a user in the job tracking system.
  * Implements UserDetails for Spring Security integration.
+ * Cached in the second-level cache, with email as a cached natural ID.
  */
 @Entity
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.USERS_REGION)
+@NaturalIdCache(region = CacheConfig.USERS_BY_EMAIL_REGION)
 @Data
 @Builder
 @NoArgsConstructor
@@ -53,6 +59,7 @@ public class User implements UserDetails {
 
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true)
     private String email;
 
@@ -64,9 +71,10 @@ public class User implements UserDetails {
     @Column(name = "experience_years")
     private Integer experienceYears;
 
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "technology_stack", columnDefinition = "jsonb")
-    private List<String> technologyStack;
+    // Technology stack as interned tag IDs in stack order, see TechnologyTagService
+    @Column(name = "tag_ids", nullable = false)
+    @Builder.Default
+    private Integer[] tagIds = new Integer[0];
 
     @Column(name = "job_title")
     private String jobTitle;
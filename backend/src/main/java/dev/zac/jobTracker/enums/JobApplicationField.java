@@ -0,0 +1,87 @@
+package dev.zac.jobTracker.enums;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import dev.zac.jobTracker.dto.jobApplication.JobApplicationDto;
+
+/**
+ * Enum representing the job application fields a list request can ask for with {@code fields=}.
+ * Each field knows its JSON name, the entity attribute it is read from and how to set it on the DTO.
+ */
+public enum JobApplicationField {
+    ID("id", "id", (dto, value) -> dto.setId((Long) value)),
+    COMPANY("company", "company", (dto, value) -> dto.setCompany((String) value)),
+    JOB_TITLE("job_title", "jobTitle", (dto, value) -> dto.setJobTitle((String) value)),
+    DATE_APPLIED("date_applied", "dateApplied", (dto, value) -> dto.setDateApplied((LocalDate) value)),
+    STATUS("status", "status", (dto, value) -> dto.setStatus((JobApplicationStatus) value)),
+    LAST_RESPONSE_DATE("last_response_date", "lastResponseDate",
+            (dto, value) -> dto.setLastResponseDate((LocalDate) value)),
+    // Read as tag IDs, which the service resolves to names
+    TECHNOLOGY_STACK("technology_stack", "tagIds", (dto, value) -> dto.setTagIds((Integer[]) value)),
+    REQUIRED_EXPERIENCE("required_experience", "requiredExperience",
+            (dto, value) -> dto.setRequiredExperience((Integer) value)),
+    NOTES("notes", "notes", (dto, value) -> dto.setNotes((String) value)),
+    CREATED_AT("created_at", "createdAt", (dto, value) -> dto.setCreatedAt((LocalDateTime) value)),
+    UPDATED_AT("updated_at", "updatedAt", (dto, value) -> dto.setUpdatedAt((LocalDateTime) value));
+
+    private final String jsonName;
+    private final String attribute;
+    private final BiConsumer<JobApplicationDto, Object> setter;
+
+    JobApplicationField(String jsonName, String attribute, BiConsumer<JobApplicationDto, Object> setter) {
+        this.jsonName = jsonName;
+        this.attribute = attribute;
+        this.setter = setter;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Set this field on a DTO.
+     *
+     * @param dto the DTO to fill in
+     * @param value the value read for this field
+     */
+    public void set(JobApplicationDto dto, Object value) {
+        setter.accept(dto, value);
+    }
+
+    /**
+     * Parse a comma-separated {@code fields} parameter of JSON field names.
+     * The ID is always included, so clients can address what they list.
+     *
+     * @param fields the parameter value, may be null
+     * @return the requested fields, or null if every field is requested
+     * @throws IllegalArgumentException if a field name is unknown
+     */
+    public static Set<JobApplicationField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+
+        Set<JobApplicationField> parsed = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            parsed.add(fromJsonName(name.trim()));
+        }
+        return parsed;
+    }
+
+    private static JobApplicationField fromJsonName(String jsonName) {
+        for (JobApplicationField field : values()) {
+            if (field.jsonName.equals(jsonName)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown field: " + jsonName);
+    }
+}
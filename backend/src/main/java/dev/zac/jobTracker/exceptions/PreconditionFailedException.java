@@ -0,0 +1,15 @@
+package dev.zac.jobTracker.exceptions;
+
+/**
+ * Exception thrown when a conditional request's precondition, such as If-Match, does not hold.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    public PreconditionFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
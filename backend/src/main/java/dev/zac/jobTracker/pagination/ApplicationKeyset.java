@@ -0,0 +1,53 @@
+package dev.zac.jobTracker.pagination;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import dev.zac.jobTracker.dto.jobApplication.JobApplicationDto;
+
+/**
+ * Keyset position of a job application in the (date applied, ID) ordering.
+ *
+ * @param dateApplied the date applied of the last row returned
+ * @param id the ID of the last row returned
+ */
+public record ApplicationKeyset(
+    LocalDate dateApplied,
+    Long id
+) {
+
+    /**
+     * Get the keyset position of a job application.
+     *
+     * @param application the job application
+     * @return the keyset position
+     */
+    public static ApplicationKeyset of(JobApplicationDto application) {
+        return new ApplicationKeyset(application.getDateApplied(), application.getId());
+    }
+
+    /**
+     * Decode a keyset position from a cursor.
+     *
+     * @param cursor the cursor
+     * @return the keyset position
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static ApplicationKeyset decode(String cursor) {
+        String[] values = CursorCodec.decode(cursor, 2);
+        try {
+            return new ApplicationKeyset(LocalDate.parse(values[0]), Long.valueOf(values[1]));
+        } catch (DateTimeParseException | NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+
+    /**
+     * Encode this position as an opaque cursor.
+     *
+     * @return the cursor
+     */
+    public String encode() {
+        return CursorCodec.encode(dateApplied, id);
+    }
+}
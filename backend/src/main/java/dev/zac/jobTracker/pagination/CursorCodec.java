@@ -0,0 +1,54 @@
+package dev.zac.jobTracker.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+/**
+ * Encodes keyset positions into opaque cursor strings and back.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * Encode the given key values into an opaque cursor.
+     *
+     * @param values the key values of the last row returned
+     * @return the cursor
+     */
+    public static String encode(Object... values) {
+        StringJoiner joiner = new StringJoiner(SEPARATOR);
+        for (Object value : values) {
+            joiner.add(String.valueOf(value));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor into its key values.
+     *
+     * @param cursor the cursor
+     * @param expectedValues the number of key values the cursor must contain
+     * @return the key values
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static String[] decode(String cursor, int expectedValues) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+
+        String[] values = decoded.split("\\" + SEPARATOR, -1);
+        if (values.length != expectedValues) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return values;
+    }
+}
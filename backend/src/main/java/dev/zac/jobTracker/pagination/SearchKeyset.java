@@ -0,0 +1,50 @@
+package dev.zac.jobTracker.pagination;
+
+import dev.zac.jobTracker.repositories.JobApplicationSearchHit;
+
+/**
+ * Keyset position of a search match in the (rank, ID) ordering.
+ *
+ * @param rank the rank of the last match returned
+ * @param id the ID of the last match returned
+ */
+public record SearchKeyset(
+    float rank,
+    Long id
+) {
+
+    /**
+     * Get the keyset position of a search match.
+     *
+     * @param hit the search match
+     * @return the keyset position
+     */
+    public static SearchKeyset of(JobApplicationSearchHit hit) {
+        return new SearchKeyset(hit.getRank(), hit.getId());
+    }
+
+    /**
+     * Decode a keyset position from a cursor.
+     *
+     * @param cursor the cursor
+     * @return the keyset position
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static SearchKeyset decode(String cursor) {
+        String[] values = CursorCodec.decode(cursor, 2);
+        try {
+            return new SearchKeyset(Float.parseFloat(values[0]), Long.valueOf(values[1]));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+
+    /**
+     * Encode this position as an opaque cursor.
+     *
+     * @return the cursor
+     */
+    public String encode() {
+        return CursorCodec.encode(rank, id);
+    }
+}
@@ -0,0 +1,40 @@
+package dev.zac.jobTracker.repositories;
+
+import dev.zac.jobTracker.entities.ApplicationCollectionVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for ApplicationCollectionVersion entity operations.
+ */
+@Repository
+public interface ApplicationCollectionVersionRepository extends JpaRepository<ApplicationCollectionVersion, Long> {
+
+    /**
+     * Find the collection version of a user.
+     *
+     * @param userId the user ID
+     * @return the version, empty if the user never changed an application
+     */
+    @Query("SELECT v.version FROM ApplicationCollectionVersion v WHERE v.userId = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") Long userId);
+
+    /**
+     * Move the collection version of a user to the next value of the shared sequence,
+     * creating the row if it does not exist. An existing row draws its value while holding the
+     * row lock, so concurrent writers of a user commit versions in increasing order.
+     *
+     * @param userId the user ID
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job_application_collection_versions (user_id, version) "
+            + "VALUES (:userId, nextval('job_application_collection_version_seq')) "
+            + "ON CONFLICT (user_id) DO UPDATE SET version = nextval('job_application_collection_version_seq')",
+            nativeQuery = true)
+    void advance(@Param("userId") Long userId);
+}
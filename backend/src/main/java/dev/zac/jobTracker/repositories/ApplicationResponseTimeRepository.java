@@ -0,0 +1,29 @@
+package dev.zac.jobTracker.repositories;
+
+import dev.zac.jobTracker.entities.ApplicationResponseTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.QueryHint;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+/**
+ * Repository interface for ApplicationResponseTime entity operations.
+ */
+@Repository
+public interface ApplicationResponseTimeRepository extends JpaRepository<ApplicationResponseTime, Long> {
+
+    /**
+     * Recompute the response times of all users from the job applications table.
+     * Readers keep seeing the previous contents until the refresh commits.
+     */
+    @Modifying
+    @Query(value = "REFRESH MATERIALIZED VIEW CONCURRENTLY job_application_response_times", nativeQuery = true)
+    // Only the view changes, so the second-level cache is left alone
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "job_application_response_times"))
+    void refresh();
+}
@@ -0,0 +1,81 @@
+package dev.zac.jobTracker.repositories;
+
+import dev.zac.jobTracker.entities.ApplicationStatusCount;
+import dev.zac.jobTracker.entities.ApplicationStatusCountId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for ApplicationStatusCount entity operations.
+ */
+@Repository
+public interface ApplicationStatusCountRepository extends JpaRepository<ApplicationStatusCount, ApplicationStatusCountId> {
+
+    /**
+     * Find the non-zero status counts of a user.
+     *
+     * @param userId the user ID
+     * @return List of status counts
+     */
+    @Query("SELECT c FROM ApplicationStatusCount c WHERE c.id.userId = :userId AND c.applicationCount > 0")
+    List<ApplicationStatusCount> findByUserId(@Param("userId") Long userId);
+
+    /**
+     * Add a delta to the count of a user and status, creating the row if it does not exist.
+     * Takes the user's rebuild lock in shared mode, so the change waits for a running rebuild of
+     * the user's counts and a rebuild waits for the change to commit, while concurrent changes do
+     * not wait for each other.
+     *
+     * @param userId the user ID
+     * @param status the application status name
+     * @param delta the amount to add, negative to subtract
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job_application_status_counts (user_id, status, application_count) "
+            + "SELECT :userId, :status, :delta FROM (SELECT pg_advisory_xact_lock_shared(:userId)) AS rebuild_lock "
+            + "ON CONFLICT (user_id, status) DO UPDATE "
+            + "SET application_count = job_application_status_counts.application_count + EXCLUDED.application_count",
+            nativeQuery = true)
+    void increment(@Param("userId") Long userId, @Param("status") String status, @Param("delta") long delta);
+
+    /**
+     * Take the rebuild lock of a user until the end of the transaction, waiting for counter
+     * changes in flight to commit and holding off new ones.
+     *
+     * @param userId the user ID
+     */
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(:userId)) AS rebuild_lock", nativeQuery = true)
+    void lockForRebuild(@Param("userId") Long userId);
+
+    /**
+     * Recompute the status counts of a user from the job applications table, writing only
+     * the counts that differ.
+     *
+     * @param userId the user ID
+     * @return number of rows inserted or corrected
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job_application_status_counts (user_id, status, application_count) "
+            + "SELECT user_id, status, count(*) FROM job_applications WHERE user_id = :userId GROUP BY user_id, status "
+            + "ON CONFLICT (user_id, status) DO UPDATE SET application_count = EXCLUDED.application_count "
+            + "WHERE job_application_status_counts.application_count <> EXCLUDED.application_count",
+            nativeQuery = true)
+    int upsertCountsFromApplications(@Param("userId") Long userId);
+
+    /**
+     * Delete the counts of a user's statuses that no application has any more.
+     *
+     * @param userId the user ID
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query(value = "DELETE FROM job_application_status_counts c WHERE c.user_id = :userId "
+            + "AND NOT EXISTS (SELECT 1 FROM job_applications ja WHERE ja.user_id = :userId AND ja.status = c.status)",
+            nativeQuery = true)
+    int deleteCountsWithoutApplications(@Param("userId") Long userId);
+}
@@ -0,0 +1,47 @@
+package dev.zac.jobTracker.repositories;
+
+import dev.zac.jobTracker.entities.ApplicationWeeklyCount;
+import dev.zac.jobTracker.entities.ApplicationWeeklyCountId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.QueryHint;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+/**
+ * Repository interface for ApplicationWeeklyCount entity operations.
+ */
+@Repository
+public interface ApplicationWeeklyCountRepository extends JpaRepository<ApplicationWeeklyCount, ApplicationWeeklyCountId> {
+
+    /**
+     * Find the weekly counts of a user for the weeks starting between two Mondays, oldest first.
+     *
+     * @param userId the user ID
+     * @param from the Monday of the first week
+     * @param to the Monday of the last week
+     * @return List of weekly counts, without weeks that have no applications
+     */
+    @Query("SELECT c FROM ApplicationWeeklyCount c WHERE c.id.userId = :userId "
+            + "AND c.id.weekStart BETWEEN :from AND :to ORDER BY c.id.weekStart")
+    List<ApplicationWeeklyCount> findByUserIdAndWeekStartBetween(@Param("userId") Long userId,
+            @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Recompute the weekly counts of all users from the job applications table.
+     * Readers keep seeing the previous contents until the refresh commits.
+     */
+    @Modifying
+    @Query(value = "REFRESH MATERIALIZED VIEW CONCURRENTLY job_application_weekly_counts", nativeQuery = true)
+    // Only the view changes, so the second-level cache is left alone
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "job_application_weekly_counts"))
+    void refresh();
+}
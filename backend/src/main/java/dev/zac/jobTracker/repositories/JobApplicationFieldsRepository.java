@@ -0,0 +1,30 @@
+package dev.zac.jobTracker.repositories;
+
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import dev.zac.jobTracker.dto.jobApplication.JobApplicationDto;
+import dev.zac.jobTracker.entities.JobApplication;
+import dev.zac.jobTracker.enums.JobApplicationField;
+
+/**
+ * Repository fragment for job application reads that select only the requested columns.
+ */
+public interface JobApplicationFieldsRepository {
+
+    /**
+     * Find job applications of a user as DTOs holding only the requested fields.
+     * Columns of other fields are left out of the SQL select list, so they are never read.
+     *
+     * @param userId the user ID
+     * @param fields the fields to read
+     * @param filter additional conditions, or null for all of the user's applications
+     * @param pageable pagination information
+     * @return Page of job applications
+     */
+    Page<JobApplicationDto> findFieldsByUserId(Long userId, Set<JobApplicationField> fields,
+            Specification<JobApplication> filter, Pageable pageable);
+}
@@ -0,0 +1,89 @@
+package dev.zac.jobTracker.repositories;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.zac.jobTracker.dto.jobApplication.JobApplicationDto;
+import dev.zac.jobTracker.entities.JobApplication;
+import dev.zac.jobTracker.enums.JobApplicationField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Sparse job application reads built as tuple queries over the requested attributes,
+ * with the same paging, sorting and counting as the DTO queries in {@link JobApplicationRepository}.
+ */
+public class JobApplicationFieldsRepositoryImpl implements JobApplicationFieldsRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobApplicationDto> findFieldsByUserId(Long userId, Set<JobApplicationField> fields,
+            Specification<JobApplication> filter, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<JobApplication> root = query.from(JobApplication.class);
+
+        List<JobApplicationField> selected = List.copyOf(fields);
+        List<Selection<?>> selections = selected.stream()
+                .<Selection<?>>map(field -> root.get(field.getAttribute()))
+                .toList();
+        query.multiselect(selections)
+                .where(where(userId, filter, root, query, criteriaBuilder))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<JobApplicationDto> content = typedQuery.getResultList().stream()
+                .map(tuple -> toDto(tuple, selected))
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(userId, filter));
+    }
+
+    private long count(Long userId, Specification<JobApplication> filter) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<JobApplication> root = query.from(JobApplication.class);
+        query.select(criteriaBuilder.count(root))
+                .where(where(userId, filter, root, query, criteriaBuilder));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Predicate where(Long userId, Specification<JobApplication> filter, Root<JobApplication> root,
+            CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        Predicate ownedByUser = criteriaBuilder.equal(root.get("user").get("id"), userId);
+        if (filter == null) {
+            return ownedByUser;
+        }
+        return criteriaBuilder.and(ownedByUser, filter.toPredicate(root, query, criteriaBuilder));
+    }
+
+    private static JobApplicationDto toDto(Tuple tuple, List<JobApplicationField> selected) {
+        JobApplicationDto dto = new JobApplicationDto();
+        for (int i = 0; i < selected.size(); i++) {
+            selected.get(i).set(dto, tuple.get(i));
+        }
+        return dto;
+    }
+}
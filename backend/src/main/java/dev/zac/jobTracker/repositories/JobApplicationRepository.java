@@ -1,90 +1,338 @@
 package dev.zac.jobTracker.repositories;
 
+import dev.zac.jobTracker.dto.jobApplication.JobApplicationDto;
 import dev.zac.jobTracker.entities.JobApplication;
-import dev.zac.jobTracker.entities.User;
 import dev.zac.jobTracker.enums.JobApplicationStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * Repository interface for JobApplication entity operations.
  */
 @Repository
-public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
+public interface JobApplicationRepository extends JpaRepository<JobApplication, Long>, JobApplicationFieldsRepository {
+
+    /**
+     * Select clause reading job applications straight into response DTOs, so read paths
+     * never create managed entities.
+     */
+    String SELECT_DTO = "SELECT new dev.zac.jobTracker.dto.jobApplication.JobApplicationDto("
+            + "ja.id, ja.company, ja.jobTitle, ja.dateApplied, ja.status, ja.lastResponseDate, "
+            + "ja.tagIds, ja.requiredExperience, ja.notes, ja.createdAt, ja.updatedAt, ja.version) "
+            + "FROM JobApplication ja ";
+
+    /**
+     * Ranked full-text matches for a user. Word matches come from the search_vector column,
+     * partial word matches on company and job title from the trigram indexes, and the latter
+     * are boosted so that direct company and title hits rank first.
+     */
+    String FULL_TEXT_SEARCH = "SELECT hit.id AS id, hit.rank AS rank FROM ("
+            + "SELECT ja.id AS id, CAST(ts_rank(ja.search_vector, query) "
+            + "+ CASE WHEN ja.company ILIKE :pattern OR ja.job_title ILIKE :pattern THEN 1 ELSE 0 END AS REAL) AS rank "
+            + "FROM job_applications ja, websearch_to_tsquery('english', :query) query "
+            + "WHERE ja.user_id = :userId "
+            + "AND (ja.search_vector @@ query OR ja.company ILIKE :pattern OR ja.job_title ILIKE :pattern)"
+            + ") hit ";
 
     /**
      * Find all job applications for a specific user.
      *
-     * @param user the user
+     * @param userId the user ID
      * @param pageable pagination information
      * @return Page of job applications
      */
-    Page<JobApplication> findByUser(User user, Pageable pageable);
+    @Query(SELECT_DTO + "WHERE ja.user.id = :userId")
+    Page<JobApplicationDto> findByUserId(@Param("userId") Long userId, Pageable pageable);
 
     /**
      * Find all job applications for a specific user.
      *
-     * @param user the user
+     * @param userId the user ID
      * @return List of job applications
      */
-    List<JobApplication> findByUser(User user);
+    @Query("SELECT ja FROM JobApplication ja WHERE ja.user.id = :userId")
+    List<JobApplication> findByUserId(@Param("userId") Long userId);
+
+    /**
+     * Stream all job applications for a specific user as response DTOs, newest first.
+     * Rows are fetched from a server-side cursor in batches, so the stream must be consumed
+     * and closed inside a transaction. Notes and the technology stack come with each row,
+     * instead of one lazy load per managed entity.
+     *
+     * @param userId the user ID
+     * @return Stream of job applications
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query(SELECT_DTO + "WHERE ja.user.id = :userId ORDER BY ja.dateApplied DESC, ja.id DESC")
+    Stream<JobApplicationDto> streamDtosByUserId(@Param("userId") Long userId);
 
     /**
      * Find a job application by ID and user.
      *
      * @param id the job application ID
-     * @param user the user
+     * @param userId the user ID
+     * @return Optional containing the job application if found
+     */
+    @Query("SELECT ja FROM JobApplication ja WHERE ja.id = :id AND ja.user.id = :userId")
+    Optional<JobApplication> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Read and lock the status of a job application, without loading the rest of the row.
+     *
+     * @param id the job application ID
+     * @param userId the user ID
+     * @return Optional containing the status if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ja.status FROM JobApplication ja WHERE ja.id = :id AND ja.user.id = :userId")
+    Optional<JobApplicationStatus> findStatusForUpdate(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Find the optimistic locking version of a job application.
+     *
+     * @param id the job application ID
+     * @param userId the user ID
+     * @return Optional containing the version if found
+     */
+    @Query("SELECT ja.version FROM JobApplication ja WHERE ja.id = :id AND ja.user.id = :userId")
+    Optional<Long> findVersionByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Find a job application by ID and user as a response DTO.
+     *
+     * @param id the job application ID
+     * @param userId the user ID
      * @return Optional containing the job application if found
      */
-    Optional<JobApplication> findByIdAndUser(Long id, User user);
+    @Query(SELECT_DTO + "WHERE ja.id = :id AND ja.user.id = :userId")
+    Optional<JobApplicationDto> findDtoByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Find job applications of a user by ID as response DTOs.
+     *
+     * @param userId the user ID
+     * @param ids the job application IDs
+     * @return List of job applications, in no particular order
+     */
+    @Query(SELECT_DTO + "WHERE ja.user.id = :userId AND ja.id IN :ids")
+    List<JobApplicationDto> findDtosByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") List<Long> ids);
 
     /**
      * Find job applications by user and status.
      *
-     * @param user the user
+     * @param userId the user ID
      * @param status the application status
      * @param pageable pagination information
      * @return Page of job applications
      */
-    Page<JobApplication> findByUserAndStatus(User user, JobApplicationStatus status, Pageable pageable);
+    @Query(SELECT_DTO + "WHERE ja.user.id = :userId AND ja.status = :status")
+    Page<JobApplicationDto> findByUserIdAndStatus(@Param("userId") Long userId,
+            @Param("status") JobApplicationStatus status, Pageable pageable);
 
     /**
      * Find job applications by user and company containing a search term.
      *
-     * @param user the user
+     * @param userId the user ID
      * @param company the company name search term
      * @param pageable pagination information
      * @return Page of job applications
      */
-    Page<JobApplication> findByUserAndCompanyContainingIgnoreCase(User user, String company, Pageable pageable);
+    @Query(SELECT_DTO + "WHERE ja.user.id = :userId "
+            + "AND UPPER(ja.company) LIKE UPPER(CONCAT('%', :#{escape(#company)}, '%')) ESCAPE :#{escapeCharacter()}")
+    Page<JobApplicationDto> findByUserIdAndCompanyContainingIgnoreCase(@Param("userId") Long userId,
+            @Param("company") String company, Pageable pageable);
+
+    /**
+     * Find job applications of a user that carry all of the given technology tags.
+     *
+     * @param userId the user ID
+     * @param tagIds the technology tag IDs
+     * @param pageable pagination information
+     * @return Page of job applications
+     */
+    @Query(SELECT_DTO + "WHERE ja.user.id = :userId AND array_includes(ja.tagIds, :tagIds)")
+    Page<JobApplicationDto> findByUserIdAndTagIdsContaining(@Param("userId") Long userId,
+            @Param("tagIds") Integer[] tagIds, Pageable pageable);
+
+    /**
+     * Count a user's job applications per technology tag, most used first.
+     * Applications are grouped by their tag array before unnesting, since most share the same few stacks.
+     *
+     * @param userId the user ID
+     * @return List of tags with their application counts
+     */
+    @Query(value = "SELECT tag.name AS tag, CAST(sum(stack.applications) AS BIGINT) AS applications "
+            + "FROM (SELECT ja.tag_ids, count(*) AS applications FROM job_applications ja "
+            + "WHERE ja.user_id = :userId GROUP BY ja.tag_ids) stack "
+            + "CROSS JOIN unnest(stack.tag_ids) AS application_tag(tag_id) "
+            + "JOIN technology_tags tag ON tag.id = application_tag.tag_id "
+            + "GROUP BY tag.name ORDER BY applications DESC, tag.name", nativeQuery = true)
+    List<TechnologyTagCount> countTechnologyTagsByUserId(@Param("userId") Long userId);
 
     /**
      * Find job applications by user within a date range.
      *
-     * @param user the user
+     * @param userId the user ID
      * @param startDate the start date
      * @param endDate the end date
      * @param pageable pagination information
      * @return Page of job applications
      */
-    Page<JobApplication> findByUserAndDateAppliedBetween(User user, LocalDate startDate, LocalDate endDate, Pageable pageable);
+    @Query(SELECT_DTO + "WHERE ja.user.id = :userId "
+            + "AND ja.dateApplied BETWEEN :startDate AND :endDate")
+    Page<JobApplicationDto> findByUserIdAndDateAppliedBetween(@Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate, Pageable pageable);
+
+    /**
+     * Find the first keyset page of job applications for a user, newest first.
+     *
+     * @param userId the user ID
+     * @param limit maximum number of rows to return
+     * @return List of job applications
+     */
+    @Query(SELECT_DTO + "WHERE ja.user.id = :userId "
+            + "ORDER BY ja.dateApplied DESC, ja.id DESC")
+    List<JobApplicationDto> findKeysetFirstByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * Find the keyset page of job applications for a user that follows the given position.
+     *
+     * @param userId the user ID
+     * @param dateApplied date applied of the last row of the previous page
+     * @param id ID of the last row of the previous page
+     * @param limit maximum number of rows to return
+     * @return List of job applications
+     */
+    @Query(SELECT_DTO + "WHERE ja.user.id = :userId "
+            + "AND (ja.dateApplied, ja.id) < (:dateApplied, :id) "
+            + "ORDER BY ja.dateApplied DESC, ja.id DESC")
+    List<JobApplicationDto> findKeysetAfterByUserId(@Param("userId") Long userId,
+            @Param("dateApplied") LocalDate dateApplied, @Param("id") Long id, Limit limit);
+
+    /**
+     * Find the first keyset page of job applications for a user and status, newest first.
+     *
+     * @param userId the user ID
+     * @param status the application status
+     * @param limit maximum number of rows to return
+     * @return List of job applications
+     */
+    @Query(SELECT_DTO + "WHERE ja.user.id = :userId AND ja.status = :status "
+            + "ORDER BY ja.dateApplied DESC, ja.id DESC")
+    List<JobApplicationDto> findKeysetFirstByUserIdAndStatus(@Param("userId") Long userId,
+            @Param("status") JobApplicationStatus status, Limit limit);
+
+    /**
+     * Find the keyset page of job applications for a user and status that follows the given position.
+     *
+     * @param userId the user ID
+     * @param status the application status
+     * @param dateApplied date applied of the last row of the previous page
+     * @param id ID of the last row of the previous page
+     * @param limit maximum number of rows to return
+     * @return List of job applications
+     */
+    @Query(SELECT_DTO + "WHERE ja.user.id = :userId AND ja.status = :status "
+            + "AND (ja.dateApplied, ja.id) < (:dateApplied, :id) "
+            + "ORDER BY ja.dateApplied DESC, ja.id DESC")
+    List<JobApplicationDto> findKeysetAfterByUserIdAndStatus(@Param("userId") Long userId,
+            @Param("status") JobApplicationStatus status,
+            @Param("dateApplied") LocalDate dateApplied, @Param("id") Long id, Limit limit);
+
+    /**
+     * Find the first keyset page of job applications for a user within a date range, newest first.
+     *
+     * @param userId the user ID
+     * @param startDate the start date
+     * @param endDate the end date
+     * @param limit maximum number of rows to return
+     * @return List of job applications
+     */
+    @Query(SELECT_DTO + "WHERE ja.user.id = :userId "
+            + "AND ja.dateApplied BETWEEN :startDate AND :endDate "
+            + "ORDER BY ja.dateApplied DESC, ja.id DESC")
+    List<JobApplicationDto> findKeysetFirstByUserIdAndDateAppliedBetween(@Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate, Limit limit);
+
+    /**
+     * Find the keyset page of job applications for a user within a date range that follows the given position.
+     *
+     * @param userId the user ID
+     * @param startDate the start date
+     * @param endDate the end date
+     * @param dateApplied date applied of the last row of the previous page
+     * @param id ID of the last row of the previous page
+     * @param limit maximum number of rows to return
+     * @return List of job applications
+     */
+    @Query(SELECT_DTO + "WHERE ja.user.id = :userId "
+            + "AND ja.dateApplied BETWEEN :startDate AND :endDate "
+            + "AND (ja.dateApplied, ja.id) < (:dateApplied, :id) "
+            + "ORDER BY ja.dateApplied DESC, ja.id DESC")
+    List<JobApplicationDto> findKeysetAfterByUserIdAndDateAppliedBetween(@Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+            @Param("dateApplied") LocalDate dateApplied, @Param("id") Long id, Limit limit);
+
+    /**
+     * Find the first page of full-text matches for a user, most relevant first.
+     *
+     * @param userId the user ID
+     * @param query the web search style query
+     * @param pattern the ILIKE pattern for partial company and job title matches
+     * @param limit maximum number of rows to return
+     * @return List of search matches
+     */
+    @Query(value = FULL_TEXT_SEARCH + "ORDER BY hit.rank DESC, hit.id DESC LIMIT :limit", nativeQuery = true)
+    List<JobApplicationSearchHit> searchFirstByUserId(@Param("userId") Long userId, @Param("query") String query,
+            @Param("pattern") String pattern, @Param("limit") int limit);
+
+    /**
+     * Find the page of full-text matches for a user that follows the given position.
+     *
+     * @param userId the user ID
+     * @param query the web search style query
+     * @param pattern the ILIKE pattern for partial company and job title matches
+     * @param rank rank of the last match of the previous page
+     * @param id ID of the last match of the previous page
+     * @param limit maximum number of rows to return
+     * @return List of search matches
+     */
+    @Query(value = FULL_TEXT_SEARCH + "WHERE (hit.rank, hit.id) < (CAST(:rank AS REAL), :id) "
+            + "ORDER BY hit.rank DESC, hit.id DESC LIMIT :limit", nativeQuery = true)
+    List<JobApplicationSearchHit> searchAfterByUserId(@Param("userId") Long userId, @Param("query") String query,
+            @Param("pattern") String pattern, @Param("rank") float rank, @Param("id") Long id,
+            @Param("limit") int limit);
 
     /**
      * Count job applications by user and status.
      *
-     * @param user the user
+     * @param userId the user ID
      * @param status the application status
      * @return count of applications
      */
-    long countByUserAndStatus(User user, JobApplicationStatus status);
+    @Query("SELECT COUNT(ja) FROM JobApplication ja WHERE ja.user.id = :userId AND ja.status = :status")
+    long countByUserIdAndStatus(@Param("userId") Long userId, @Param("status") JobApplicationStatus status);
 
     /**
      * Get job application statistics for a user.
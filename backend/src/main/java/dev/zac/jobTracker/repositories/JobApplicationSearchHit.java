@@ -0,0 +1,21 @@
+package dev.zac.jobTracker.repositories;
+
+/**
+ * Projection of a full-text search match: the job application ID and its relevance.
+ */
+public interface JobApplicationSearchHit {
+
+    /**
+     * Get the matching job application ID.
+     *
+     * @return the job application ID
+     */
+    Long getId();
+
+    /**
+     * Get the relevance of the match, higher is better.
+     *
+     * @return the rank
+     */
+    Float getRank();
+}
@@ -0,0 +1,59 @@
+package dev.zac.jobTracker.repositories;
+
+import dev.zac.jobTracker.entities.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for RevokedToken entity operations.
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, UUID> {
+
+    /**
+     * Find revocations of tokens that have not expired yet.
+     *
+     * @param now the current instant
+     * @return List of revoked tokens
+     */
+    List<RevokedToken> findByExpiresAtAfter(Instant now);
+
+    /**
+     * Find revocations recorded after an instant.
+     *
+     * @param since the exclusive lower bound
+     * @return List of revoked tokens
+     */
+    List<RevokedToken> findByRevokedAtAfter(Instant since);
+
+    /**
+     * Record a revocation, keeping the existing row if the token was already revoked.
+     *
+     * @param tokenId the token ID
+     * @param expiresAt when the token expires
+     * @param revokedAt when the token was revoked
+     */
+    @Modifying
+    @Query(value = "INSERT INTO revoked_tokens (token_id, expires_at, revoked_at) "
+            + "VALUES (:tokenId, :expiresAt, :revokedAt) ON CONFLICT (token_id) DO NOTHING",
+            nativeQuery = true)
+    void insertIfAbsent(@Param("tokenId") UUID tokenId, @Param("expiresAt") Instant expiresAt,
+            @Param("revokedAt") Instant revokedAt);
+
+    /**
+     * Delete revocations of tokens that have expired.
+     *
+     * @param now the current instant
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query(value = "DELETE FROM revoked_tokens WHERE expires_at <= :now", nativeQuery = true)
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,21 @@
+package dev.zac.jobTracker.repositories;
+
+/**
+ * Projection of a technology tag and the number of a user's job applications carrying it.
+ */
+public interface TechnologyTagCount {
+
+    /**
+     * Get the tag name.
+     *
+     * @return the tag name
+     */
+    String getTag();
+
+    /**
+     * Get the number of job applications with the tag.
+     *
+     * @return the application count
+     */
+    Long getApplications();
+}
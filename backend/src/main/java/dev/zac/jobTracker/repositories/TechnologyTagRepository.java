@@ -0,0 +1,42 @@
+package dev.zac.jobTracker.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import dev.zac.jobTracker.entities.TechnologyTag;
+
+/**
+ * Repository interface for TechnologyTag entity operations.
+ */
+@Repository
+public interface TechnologyTagRepository extends JpaRepository<TechnologyTag, Integer> {
+
+    /**
+     * Find the tags with any of the given names.
+     *
+     * @param names the tag names
+     * @return List of the tags that exist
+     */
+    List<TechnologyTag> findByNameIn(Collection<String> names);
+
+    /**
+     * Intern the names that are not tags yet, in one statement. Existing names are skipped before
+     * inserting so that they do not use up sequence values, and concurrent inserts of the same name
+     * are ignored.
+     *
+     * @param names the tag names
+     * @return the number of tags inserted
+     */
+    @Modifying
+    @Query(value = "INSERT INTO technology_tags (name) "
+            + "SELECT new_tag.name FROM unnest(CAST(:names AS TEXT[])) AS new_tag(name) "
+            + "WHERE NOT EXISTS (SELECT 1 FROM technology_tags tag WHERE tag.name = new_tag.name) "
+            + "ON CONFLICT (name) DO NOTHING", nativeQuery = true)
+    int insertMissing(@Param("names") String[] names);
+}
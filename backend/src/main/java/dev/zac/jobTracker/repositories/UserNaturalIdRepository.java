@@ -0,0 +1,19 @@
+package dev.zac.jobTracker.repositories;
+
+import java.util.Optional;
+
+import dev.zac.jobTracker.entities.User;
+
+/**
+ * Repository fragment for User lookups by natural ID, served from the second-level cache.
+ */
+public interface UserNaturalIdRepository {
+
+    /**
+     * Find a user by email address using the natural ID cache.
+     *
+     * @param email the email address
+     * @return Optional containing the user if found
+     */
+    Optional<User> findByEmail(String email);
+}
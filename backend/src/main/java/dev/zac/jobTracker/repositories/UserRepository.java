@@ -2,29 +2,30 @@ package dev.zac.jobTracker.repositories;
 
 import dev.zac.jobTracker.entities.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.List;
 
 /**
  * Repository interface for User entity operations.
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
 
     /**
-     * Find a user by email address.
+     * Check if a user exists with the given email.
      *
      * @param email the email address
-     * @return Optional containing the user if found
+     * @return true if user exists, false otherwise
      */
-    Optional<User> findByEmail(String email);
+    boolean existsByEmail(String email);
 
     /**
-     * Check if a user exists with the given email.
+     * Find the IDs of all users.
      *
-     * @param email the email address
-     * @return true if user exists, false otherwise
+     * @return List of user IDs in ascending order
      */
-    boolean existsByEmail(String email);
+    @Query("SELECT u.id FROM User u ORDER BY u.id")
+    List<Long> findAllIds();
 }
@@ -0,0 +1,63 @@
+package dev.zac.jobTracker.repositories;
+
+import dev.zac.jobTracker.entities.UserTokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository interface for UserTokenRevocation entity operations.
+ */
+@Repository
+public interface UserTokenRevocationRepository extends JpaRepository<UserTokenRevocation, Long> {
+
+    /**
+     * Find user revocations that still cover unexpired tokens.
+     *
+     * @param now the current instant
+     * @return List of user revocations
+     */
+    List<UserTokenRevocation> findByExpiresAtAfter(Instant now);
+
+    /**
+     * Find user revocations recorded after an instant.
+     *
+     * @param since the exclusive lower bound
+     * @return List of user revocations
+     */
+    List<UserTokenRevocation> findByRevokedAtAfter(Instant since);
+
+    /**
+     * Record a user revocation, moving an existing cut-off forward but never back.
+     *
+     * @param userId the user ID
+     * @param revokedBefore tokens issued before this instant are revoked
+     * @param expiresAt when the last covered token expires
+     * @param revokedAt when the revocation was recorded
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_token_revocations (user_id, revoked_before, expires_at, revoked_at) "
+            + "VALUES (:userId, :revokedBefore, :expiresAt, :revokedAt) "
+            + "ON CONFLICT (user_id) DO UPDATE SET "
+            + "revoked_before = GREATEST(user_token_revocations.revoked_before, EXCLUDED.revoked_before), "
+            + "expires_at = GREATEST(user_token_revocations.expires_at, EXCLUDED.expires_at), "
+            + "revoked_at = EXCLUDED.revoked_at",
+            nativeQuery = true)
+    void upsert(@Param("userId") Long userId, @Param("revokedBefore") Instant revokedBefore,
+            @Param("expiresAt") Instant expiresAt, @Param("revokedAt") Instant revokedAt);
+
+    /**
+     * Delete user revocations whose covered tokens have all expired.
+     *
+     * @param now the current instant
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_token_revocations WHERE expires_at <= :now", nativeQuery = true)
+    int deleteExpired(@Param("now") Instant now);
+}
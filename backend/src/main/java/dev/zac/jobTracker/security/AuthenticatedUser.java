@@ -0,0 +1,47 @@
+package dev.zac.jobTracker.security;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Lightweight principal built only from verified JWT claims, so authenticating
+ * a request never needs to load the user from the database.
+ *
+ * @param id the user ID
+ * @param email the user email
+ * @param role the user role name
+ */
+public record AuthenticatedUser(
+    Long id,
+    String email,
+    String role
+) implements AuthenticatedPrincipal {
+
+    /**
+     * Build the principal from a verified token.
+     *
+     * @param token the verified token
+     * @return the authenticated user
+     */
+    public static AuthenticatedUser from(VerifiedToken token) {
+        return new AuthenticatedUser(token.userId(), token.subject(), token.role());
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    /**
+     * Get the granted authorities for this user.
+     *
+     * @return the authorities derived from the role
+     */
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+}
@@ -0,0 +1,143 @@
+package dev.zac.jobTracker.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import dev.zac.jobTracker.exceptions.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Password encoder that runs the delegate's hashing on a small, CPU-sized pool.
+ * Request threads wait for their own hash, but at most {@code threads} hashes run at once and
+ * at most {@code queueCapacity} wait, so a login burst cannot take every request thread's CPU;
+ * anything beyond that is rejected immediately with {@link ServiceBusyException}.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final String TIMER_NAME = "jobtracker.password.hash";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 1).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = timer("encode", meterRegistry);
+        this.matchesTimer = timer("matches", meterRegistry);
+        this.rejected = Counter.builder("jobtracker.password.hash.rejected")
+                .description("Password hashes refused because the hashing queue was full")
+                .register(meterRegistry);
+        Gauge.builder("jobtracker.password.hash.queued", executor, pool -> pool.getQueue().size())
+                .description("Password hashes waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("jobtracker.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes currently running")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return await(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Only inspects the stored hash's prefix and cost, no hashing involved
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Hash a password without waiting for the result.
+     * Background work shares the queue with request threads and is refused the same way when it is full.
+     *
+     * @param rawPassword the password to hash
+     * @return future completing with the hash, or failed with {@link ServiceBusyException}
+     */
+    public CompletableFuture<String> encodeInBackground(CharSequence rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> encodeTimer.record(() -> delegate.encode(rawPassword)), executor);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(busy(ex));
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Run hashing work on the pool and wait for it on the calling thread.
+     *
+     * @param work the hashing work
+     * @return the work's result
+     * @throws ServiceBusyException if the hashing queue is full
+     */
+    private <T> T await(Callable<T> work) {
+        Future<T> future;
+        try {
+            future = executor.submit(work);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw busy(ex);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    private static ServiceBusyException busy(RejectedExecutionException ex) {
+        return new ServiceBusyException("Too many sign-in requests at once, please retry shortly", ex);
+    }
+
+    /**
+     * Build the hashing latency timer for an operation.
+     *
+     * @param operation encode or matches
+     * @param meterRegistry the registry to register with
+     * @return the registered timer
+     */
+    private static Timer timer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder(TIMER_NAME)
+                .description("Time spent hashing a password on the hashing pool, excluding queueing")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
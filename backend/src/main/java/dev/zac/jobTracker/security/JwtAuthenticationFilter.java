@@ -1,15 +1,15 @@
 package dev.zac.jobTracker.security;
 
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -18,13 +18,34 @@ import java.io.IOException;
 
 /**
  * JWT Authentication Filter to validate and process JWT tokens.
+ * Authentication is built from the verified token claims only, without a user lookup,
+ * and revoked tokens are ignored as if they were invalid.
+ * The token handling is timed separately from the rest of the filter chain.
  */
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String TIMER_NAME = "jobtracker.auth.jwt";
+
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+    private final MeterRegistry meterRegistry;
+    // Registered once, so timing a request costs no registry lookup
+    private final Timer authenticatedTimer;
+    private final Timer ignoredTimer;
+    private final Timer revokedTimer;
+    private final Timer invalidTimer;
+
+    public JwtAuthenticationFilter(JwtService jwtService, TokenRevocationService tokenRevocationService,
+            MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.meterRegistry = meterRegistry;
+        this.authenticatedTimer = timer("authenticated", meterRegistry);
+        this.ignoredTimer = timer("ignored", meterRegistry);
+        this.revokedTimer = timer("revoked", meterRegistry);
+        this.invalidTimer = timer("invalid", meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -32,10 +53,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
-        
+
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String userEmail;
 
         // Check if Authorization header exists and starts with "Bearer "
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -43,28 +63,57 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // Extract JWT token from Authorization header
+        // Extract JWT token from Authorization header and verify it once
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        final VerifiedToken verifiedToken;
+        try {
+            verifiedToken = jwtService.verify(jwt);
+        } catch (JwtException | IllegalArgumentException ex) {
+            sample.stop(invalidTimer);
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        // If username is present and user is not already authenticated
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            
-            // Validate token and set authentication
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                );
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+        if (tokenRevocationService.isRevoked(verifiedToken)) {
+            sample.stop(revokedTimer);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Tokens issued without identity claims are ignored, the user has to log in again
+        if (verifiedToken.hasIdentityClaims() && SecurityContextHolder.getContext().getAuthentication() == null) {
+            AuthenticatedUser principal = AuthenticatedUser.from(verifiedToken);
+            // The verified token is kept as the credentials so it can be revoked on logout
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    principal,
+                    verifiedToken,
+                    principal.getAuthorities()
+            );
+            authToken.setDetails(
+                    new WebAuthenticationDetailsSource().buildDetails(request)
+            );
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+            sample.stop(authenticatedTimer);
+        } else {
+            sample.stop(ignoredTimer);
         }
-        
+
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Register the token handling timer for an outcome.
+     *
+     * @param outcome authenticated, ignored, revoked or invalid
+     * @param meterRegistry the registry to register with
+     * @return the registered timer
+     */
+    private static Timer timer(String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder(TIMER_NAME)
+                .description("Time spent verifying the bearer token and building the authentication")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 }
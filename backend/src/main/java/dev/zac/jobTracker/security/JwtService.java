@@ -1,56 +1,89 @@
 package dev.zac.jobTracker.security;
 
 import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import dev.zac.jobTracker.config.JwtProperties;
+import dev.zac.jobTracker.entities.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 
 /**
  * Service for handling JWT token operations.
+ * The signing key and parser are built once, and verified tokens are cached
+ * until they expire so repeated requests with the same token skip signature checks.
  */
 @Service
 public class JwtService {
 
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLE_CLAIM = "role";
+    static final int REFRESH_TOKEN_LIFETIME_FACTOR = 7;
+
     private final JwtProperties jwtProperties;
+    private final Key signInKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     @Autowired
     public JwtService(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.secret()));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.verifiedTokenCacheSize())
+                .expireAfter(Expiry.creating((String token, VerifiedToken verified) ->
+                        Duration.between(Instant.now(), verified.expiresAt())))
+                .build();
     }
 
     /**
-     * Extract username from JWT token.
+     * Parse and verify a JWT token, reusing a previous verification when available.
      *
      * @param token the JWT token
-     * @return the username
+     * @return the verified token claims
+     * @throws JwtException if the token is malformed, has an invalid signature or is expired
      */
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    public VerifiedToken verify(String token) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null && !cached.isExpiredAt(Instant.now())) {
+            return cached;
+        }
+
+        VerifiedToken verified = toVerifiedToken(jwtParser.parseClaimsJws(token).getBody());
+        verifiedTokens.put(token, verified);
+        return verified;
     }
 
     /**
-     * Extract a specific claim from JWT token.
+     * Extract username from JWT token.
      *
      * @param token the JWT token
-     * @param claimsResolver function to extract the claim
-     * @param <T> the type of the claim
-     * @return the claim value
+     * @return the username
      */
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public String extractUsername(String token) {
+        return verify(token).subject();
     }
 
     /**
@@ -61,7 +94,23 @@ public class JwtService {
      */
     public String generateToken(UserDetails userDetails) {
         return generateToken(new HashMap<>(), userDetails);
-    }    /**
+    }
+
+    /**
+     * Generate JWT token for an application user, embedding the user ID and role
+     * so requests can be authenticated from the token alone.
+     *
+     * @param user the user
+     * @return the JWT token
+     */
+    public String generateToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(ROLE_CLAIM, user.getRole().name());
+        return generateToken(claims, user);
+    }
+
+    /**
      * Generate JWT token with extra claims.
      *
      * @param extraClaims additional claims to include
@@ -79,11 +128,20 @@ public class JwtService {
      * @return the refresh token
      */
     public String generateRefreshToken(UserDetails userDetails) {
-        return buildToken(new HashMap<>(), userDetails, jwtProperties.expiration() * 7); // 7 times longer
+        return buildToken(new HashMap<>(), userDetails, jwtProperties.expiration() * REFRESH_TOKEN_LIFETIME_FACTOR);
     }
 
     /**
-     * Build JWT token.
+     * Get the lifetime of the longest-lived token this service issues.
+     *
+     * @return the refresh token lifetime
+     */
+    public Duration getLongestTokenLifetime() {
+        return Duration.ofMillis(jwtProperties.expiration() * REFRESH_TOKEN_LIFETIME_FACTOR);
+    }
+
+    /**
+     * Build JWT token with a random ID, so it can be revoked individually.
      *
      * @param extraClaims additional claims
      * @param userDetails user details
@@ -91,13 +149,15 @@ public class JwtService {
      * @return the JWT token
      */
     private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
+        long now = System.currentTimeMillis();
         return Jwts
                 .builder()
                 .setClaims(extraClaims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userDetails.getUsername())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expiration))
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -109,50 +169,34 @@ public class JwtService {
      * @return true if token is valid
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    /**
-     * Check if token is expired.
-     *
-     * @param token the JWT token
-     * @return true if token is expired
-     */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        try {
+            VerifiedToken verified = verify(token);
+            return verified.subject().equals(userDetails.getUsername())
+                    && !verified.isExpiredAt(Instant.now());
+        } catch (JwtException | IllegalArgumentException ex) {
+            return false;
+        }
     }
 
     /**
-     * Extract expiration date from token.
-     *
-     * @param token the JWT token
-     * @return the expiration date
-     */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    /**
-     * Extract all claims from token.
-     *
-     * @param token the JWT token
-     * @return the claims
-     */
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }    /**
-     * Get the signing key for JWT.
+     * Copy the claims the application relies on into an immutable value.
      *
-     * @return the signing key
+     * @param claims the parsed claims
+     * @return the verified token
+     * @throws MalformedJwtException if the token has no expiration
      */
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.secret());
-        return Keys.hmacShaKeyFor(keyBytes);
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        if (claims.getExpiration() == null) {
+            throw new MalformedJwtException("Token has no expiration");
+        }
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        return new VerifiedToken(
+                claims.getSubject(),
+                userId != null ? userId.longValue() : null,
+                claims.get(ROLE_CLAIM, String.class),
+                claims.getId(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration().toInstant()
+        );
     }
 }
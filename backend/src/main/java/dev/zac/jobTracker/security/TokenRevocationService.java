@@ -0,0 +1,179 @@
+package dev.zac.jobTracker.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import dev.zac.jobTracker.entities.RevokedToken;
+import dev.zac.jobTracker.entities.UserTokenRevocation;
+import dev.zac.jobTracker.repositories.RevokedTokenRepository;
+import dev.zac.jobTracker.repositories.UserTokenRevocationRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service deciding whether a verified token has been revoked.
+ * Revocations are held in memory and drop out when the tokens they cover expire, so checking a
+ * token is two hash lookups. The database copy lets a node rebuild its state on startup and
+ * picks up revocations made on other nodes on every sync.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService implements SmartInitializingSingleton {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserTokenRevocationRepository userTokenRevocationRepository;
+    private final Duration longestTokenLifetime;
+    private final Duration syncInterval;
+    // Token ID to the token's expiry
+    private final Cache<String, Instant> revokedTokens;
+    // User ID to the instant before which the user's tokens are revoked
+    private final Cache<Long, Instant> revokedBefore;
+    private volatile Instant lastSyncedAt;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+            UserTokenRevocationRepository userTokenRevocationRepository, JwtService jwtService,
+            @Value("${app.token-revocation.sync-interval:30s}") Duration syncInterval) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userTokenRevocationRepository = userTokenRevocationRepository;
+        this.longestTokenLifetime = jwtService.getLongestTokenLifetime();
+        this.syncInterval = syncInterval;
+        // No size bound: evicting an entry early would make a revoked token valid again
+        this.revokedTokens = Caffeine.newBuilder()
+                .expireAfter(Expiry.creating((String tokenId, Instant expiresAt) ->
+                        Duration.between(Instant.now(), expiresAt)))
+                .build();
+        this.revokedBefore = Caffeine.newBuilder()
+                .expireAfter(Expiry.writing((Long userId, Instant before) ->
+                        Duration.between(Instant.now(), before.plus(longestTokenLifetime))))
+                .build();
+    }
+
+    /**
+     * Check if a verified token has been revoked, on its own or with all of its user's tokens.
+     *
+     * @param token the verified token
+     * @return true if the token must be rejected
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        if (token.tokenId() != null && revokedTokens.getIfPresent(token.tokenId()) != null) {
+            return true;
+        }
+        if (token.userId() == null) {
+            return false;
+        }
+        Instant before = revokedBefore.getIfPresent(token.userId());
+        return before != null && (token.issuedAt() == null || token.issuedAt().isBefore(before));
+    }
+
+    /**
+     * Revoke a single token, for example on logout.
+     * Tokens issued without an ID cannot be revoked individually and are ignored.
+     *
+     * @param token the verified token
+     */
+    @Transactional
+    public void revoke(VerifiedToken token) {
+        if (token.tokenId() == null) {
+            return;
+        }
+
+        revokedTokenRepository.insertIfAbsent(UUID.fromString(token.tokenId()), token.expiresAt(), Instant.now());
+        afterCommit(() -> revokedTokens.put(token.tokenId(), token.expiresAt()));
+    }
+
+    /**
+     * Revoke every token issued to a user up to now.
+     * Token issue times have second precision, so tokens issued later in the current second
+     * are revoked too.
+     *
+     * @param userId the user ID
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        Instant now = Instant.now();
+        Instant before = now.truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+
+        userTokenRevocationRepository.upsert(userId, before, before.plus(longestTokenLifetime), now);
+        afterCommit(() -> rememberRevokedBefore(userId, before));
+    }
+
+    /**
+     * Load every revocation that still covers unexpired tokens before the node serves requests.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        Instant now = Instant.now();
+        revokedTokenRepository.findByExpiresAtAfter(now).forEach(this::remember);
+        userTokenRevocationRepository.findByExpiresAtAfter(now).forEach(this::remember);
+        lastSyncedAt = now;
+
+        log.info("Loaded {} revoked tokens and {} user revocations",
+                revokedTokens.estimatedSize(), revokedBefore.estimatedSize());
+    }
+
+    /**
+     * Pick up revocations recorded by other nodes and delete rows that no longer cover any token.
+     * Each sync overlaps the previous one by an interval, so rows committed late are not missed.
+     */
+    @Scheduled(fixedDelayString = "${app.token-revocation.sync-interval:30s}",
+            initialDelayString = "${app.token-revocation.sync-interval:30s}")
+    @Transactional
+    public void sync() {
+        Instant now = Instant.now();
+        Instant since = lastSyncedAt.minus(syncInterval);
+        revokedTokenRepository.findByRevokedAtAfter(since).forEach(this::remember);
+        userTokenRevocationRepository.findByRevokedAtAfter(since).forEach(this::remember);
+        lastSyncedAt = now;
+
+        int deleted = revokedTokenRepository.deleteExpired(now) + userTokenRevocationRepository.deleteExpired(now);
+        if (deleted > 0) {
+            log.debug("Deleted {} expired token revocations", deleted);
+        }
+    }
+
+    private void remember(RevokedToken revokedToken) {
+        revokedTokens.put(revokedToken.getTokenId().toString(), revokedToken.getExpiresAt());
+    }
+
+    private void remember(UserTokenRevocation revocation) {
+        rememberRevokedBefore(revocation.getUserId(), revocation.getRevokedBefore());
+    }
+
+    /**
+     * Store a user's cut-off, keeping a later one already known.
+     *
+     * @param userId the user ID
+     * @param before the revocation cut-off
+     */
+    private void rememberRevokedBefore(Long userId, Instant before) {
+        revokedBefore.asMap().merge(userId, before, (current, candidate) -> current.isAfter(candidate) ? current : candidate);
+    }
+
+    /**
+     * Apply an in-memory change once the current transaction commits, so a rolled back
+     * revocation never takes effect on this node either.
+     *
+     * @param change the change to apply
+     */
+    private void afterCommit(Runnable change) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
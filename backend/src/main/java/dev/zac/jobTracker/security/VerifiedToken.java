@@ -0,0 +1,42 @@
+package dev.zac.jobTracker.security;
+
+import java.time.Instant;
+
+/**
+ * Immutable view of a JWT whose signature and expiration have already been verified.
+ *
+ * @param subject the token subject (user email)
+ * @param userId the user ID claim, or null for tokens issued without one
+ * @param role the user role claim, or null for tokens issued without one
+ * @param tokenId the token ID claim, or null for tokens issued without one
+ * @param issuedAt when the token was issued
+ * @param expiresAt when the token expires
+ */
+public record VerifiedToken(
+    String subject,
+    Long userId,
+    String role,
+    String tokenId,
+    Instant issuedAt,
+    Instant expiresAt
+) {
+
+    /**
+     * Check if the token has expired at the given instant.
+     *
+     * @param now the instant to check against
+     * @return true if token is expired
+     */
+    public boolean isExpiredAt(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /**
+     * Check if the token carries the claims needed to authenticate without a user lookup.
+     *
+     * @return true if user ID and role are present
+     */
+    public boolean hasIdentityClaims() {
+        return userId != null && role != null;
+    }
+}
@@ -0,0 +1,165 @@
+package dev.zac.jobTracker.services;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.zac.jobTracker.dto.jobApplication.ApplicationAnalyticsDto;
+import dev.zac.jobTracker.dto.jobApplication.FunnelStageDto;
+import dev.zac.jobTracker.dto.jobApplication.WeeklyApplicationsDto;
+import dev.zac.jobTracker.entities.ApplicationResponseTime;
+import dev.zac.jobTracker.entities.ApplicationWeeklyCount;
+import dev.zac.jobTracker.enums.JobApplicationStatus;
+import dev.zac.jobTracker.repositories.ApplicationResponseTimeRepository;
+import dev.zac.jobTracker.repositories.ApplicationWeeklyCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service building the per-user pipeline analytics.
+ * The funnel is derived from the status counters, which are always current. Response times and
+ * weekly counts come from materialized views refreshed on a schedule, so they can lag behind
+ * the latest changes by up to the refresh interval.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationAnalyticsService {
+
+    private static final int MAX_WEEKS = 104;
+
+    // Funnel stages in pipeline order
+    private static final List<JobApplicationStatus> FUNNEL_STAGES = List.of(
+            JobApplicationStatus.APPLIED,
+            JobApplicationStatus.PHONE_INTERVIEW,
+            JobApplicationStatus.TECHNICAL_INTERVIEW,
+            JobApplicationStatus.BEHAVIOURAL_INTERVIEW,
+            JobApplicationStatus.ON_SITE_INTERVIEW,
+            JobApplicationStatus.FINAL_INTERVIEW,
+            JobApplicationStatus.OFFER_RECEIVED,
+            JobApplicationStatus.OFFER_ACCEPTED);
+
+    private final ApplicationStatisticsService applicationStatisticsService;
+    private final ApplicationResponseTimeRepository responseTimeRepository;
+    private final ApplicationWeeklyCountRepository weeklyCountRepository;
+
+    /**
+     * Get the pipeline analytics of a user.
+     *
+     * @param userId the user ID
+     * @param weeks the number of weeks of application velocity, up to and including the current week
+     * @return the analytics
+     */
+    @Transactional(readOnly = true)
+    public ApplicationAnalyticsDto getAnalytics(Long userId, int weeks) {
+        List<WeeklyApplicationsDto> weeklyApplications = getWeeklyApplications(userId, Math.clamp(weeks, 1, MAX_WEEKS));
+        Optional<ApplicationResponseTime> responseTime = responseTimeRepository.findById(userId);
+
+        return ApplicationAnalyticsDto.builder()
+                .funnel(getFunnel(applicationStatisticsService.getStatusCounts(userId)))
+                .respondedApplications(responseTime.map(ApplicationResponseTime::getRespondedApplications).orElse(0L))
+                .medianResponseDays(responseTime.map(ApplicationResponseTime::getMedianResponseDays).orElse(null))
+                .weeklyApplications(weeklyApplications)
+                .averageWeeklyApplications(weeklyApplications.stream()
+                        .mapToLong(WeeklyApplicationsDto::getApplications)
+                        .average()
+                        .orElse(0))
+                .refreshedAt(responseTime.map(ApplicationResponseTime::getRefreshedAt).orElse(null))
+                .build();
+    }
+
+    /**
+     * Recompute the analytics views from the job applications table.
+     * The views are refreshed concurrently, so reads carry on against the previous contents.
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.refresh-interval:15m}",
+            initialDelayString = "${app.analytics.refresh-interval:15m}")
+    @Transactional
+    public void refreshViews() {
+        long start = System.nanoTime();
+
+        responseTimeRepository.refresh();
+        weeklyCountRepository.refresh();
+
+        log.info("Analytics views refreshed in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Build the funnel from the status counts. Only the current status of an application is known,
+     * so an application counts as having reached every stage up to its own, and one that was
+     * rejected, withdrawn or never answered counts as applied only.
+     *
+     * @param statusCounts the application counts by status
+     * @return the funnel stages in pipeline order
+     */
+    private List<FunnelStageDto> getFunnel(Map<JobApplicationStatus, Long> statusCounts) {
+        long[] reached = new long[FUNNEL_STAGES.size()];
+        statusCounts.forEach((status, count) -> reached[funnelDepth(status)] += count);
+        for (int depth = reached.length - 2; depth >= 0; depth--) {
+            reached[depth] += reached[depth + 1];
+        }
+
+        List<FunnelStageDto> funnel = new ArrayList<>(FUNNEL_STAGES.size());
+        for (int depth = 0; depth < reached.length; depth++) {
+            Double conversionRate = depth == 0 || reached[depth - 1] == 0
+                    ? null
+                    : (double) reached[depth] / reached[depth - 1];
+            funnel.add(FunnelStageDto.builder()
+                    .stage(FUNNEL_STAGES.get(depth))
+                    .applications(reached[depth])
+                    .conversionRate(conversionRate)
+                    .build());
+        }
+        return funnel;
+    }
+
+    /**
+     * Get the deepest funnel stage an application in a status is known to have reached.
+     *
+     * @param status the application status
+     * @return index of the stage in the funnel
+     */
+    private static int funnelDepth(JobApplicationStatus status) {
+        return switch (status) {
+            case OFFER_REJECTED -> FUNNEL_STAGES.indexOf(JobApplicationStatus.OFFER_RECEIVED);
+            case REJECTED, WITHDRAWN, NO_RESPONSE -> 0;
+            default -> FUNNEL_STAGES.indexOf(status);
+        };
+    }
+
+    /**
+     * Get the application counts of the last weeks, including weeks without applications.
+     *
+     * @param userId the user ID
+     * @param weeks the number of weeks
+     * @return weekly counts, oldest first
+     */
+    private List<WeeklyApplicationsDto> getWeeklyApplications(Long userId, int weeks) {
+        LocalDate currentWeek = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate firstWeek = currentWeek.minusWeeks(weeks - 1);
+
+        Map<LocalDate, Long> applicationsByWeek = new HashMap<>();
+        for (ApplicationWeeklyCount count : weeklyCountRepository.findByUserIdAndWeekStartBetween(
+                userId, firstWeek, currentWeek)) {
+            applicationsByWeek.put(count.getId().getWeekStart(), count.getApplications());
+        }
+
+        List<WeeklyApplicationsDto> weeklyApplications = new ArrayList<>(weeks);
+        for (LocalDate week = firstWeek; !week.isAfter(currentWeek); week = week.plusWeeks(1)) {
+            weeklyApplications.add(WeeklyApplicationsDto.builder()
+                    .weekStart(week)
+                    .applications(applicationsByWeek.getOrDefault(week, 0L))
+                    .build());
+        }
+        return weeklyApplications;
+    }
+}
@@ -0,0 +1,41 @@
+package dev.zac.jobTracker.services;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.zac.jobTracker.repositories.ApplicationCollectionVersionRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service maintaining the per-user collection versions that list and statistics ETags are built from.
+ * Versions are advanced in the caller's transaction, after its counter updates, so they commit with the change
+ * and writers of the same user lock rows in the same order.
+ */
+@Service
+@RequiredArgsConstructor
+public class ApplicationCollectionVersionService {
+
+    private final ApplicationCollectionVersionRepository collectionVersionRepository;
+
+    /**
+     * Get the collection version of a user with a single primary key lookup.
+     *
+     * @param userId the user ID
+     * @return the version, 0 for a user who never changed an application
+     */
+    @Transactional(readOnly = true)
+    public long getVersion(Long userId) {
+        return collectionVersionRepository.findVersionByUserId(userId).orElse(0L);
+    }
+
+    /**
+     * Record that some of a user's applications changed.
+     *
+     * @param userId the user ID
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChange(Long userId) {
+        collectionVersionRepository.advance(userId);
+    }
+}
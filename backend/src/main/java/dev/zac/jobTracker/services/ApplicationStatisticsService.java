@@ -0,0 +1,133 @@
+package dev.zac.jobTracker.services;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.zac.jobTracker.entities.ApplicationStatusCount;
+import dev.zac.jobTracker.enums.JobApplicationStatus;
+import dev.zac.jobTracker.repositories.ApplicationStatusCountRepository;
+import dev.zac.jobTracker.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service maintaining the per-user application counts by status.
+ * Counters are updated in the caller's transaction so they commit or roll back with the change.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationStatisticsService {
+
+    private final ApplicationStatusCountRepository statusCountRepository;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Get the application counts by status of a user.
+     *
+     * @param userId the user ID
+     * @return map of status to count, without statuses that have no applications
+     */
+    @Transactional(readOnly = true)
+    public Map<JobApplicationStatus, Long> getStatusCounts(Long userId) {
+        Map<JobApplicationStatus, Long> statusCounts = new EnumMap<>(JobApplicationStatus.class);
+        for (ApplicationStatusCount count : statusCountRepository.findByUserId(userId)) {
+            statusCounts.put(count.getId().getStatus(), count.getApplicationCount());
+        }
+        return statusCounts;
+    }
+
+    /**
+     * Count a newly created application.
+     *
+     * @param userId the user ID
+     * @param status the status of the new application
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Long userId, JobApplicationStatus status) {
+        statusCountRepository.increment(userId, status.name(), 1);
+    }
+
+    /**
+     * Count a batch of newly created applications.
+     *
+     * @param userId the user ID
+     * @param createdByStatus number of new applications per status
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Long userId, Map<JobApplicationStatus, Long> createdByStatus) {
+        // Lock the counter rows in enum order, like status changes do
+        for (Map.Entry<JobApplicationStatus, Long> created : new EnumMap<>(createdByStatus).entrySet()) {
+            statusCountRepository.increment(userId, created.getKey().name(), created.getValue());
+        }
+    }
+
+    /**
+     * Move an application from one status count to another.
+     *
+     * @param userId the user ID
+     * @param oldStatus the previous status
+     * @param newStatus the new status
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(Long userId, JobApplicationStatus oldStatus, JobApplicationStatus newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+
+        // Always lock the two counter rows in the same order to avoid deadlocks between opposite changes
+        if (oldStatus.compareTo(newStatus) < 0) {
+            statusCountRepository.increment(userId, oldStatus.name(), -1);
+            statusCountRepository.increment(userId, newStatus.name(), 1);
+        } else {
+            statusCountRepository.increment(userId, newStatus.name(), 1);
+            statusCountRepository.increment(userId, oldStatus.name(), -1);
+        }
+    }
+
+    /**
+     * Uncount a deleted application.
+     *
+     * @param userId the user ID
+     * @param status the status of the deleted application
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Long userId, JobApplicationStatus status) {
+        statusCountRepository.increment(userId, status.name(), -1);
+    }
+
+    /**
+     * Rebuild all counters from the job applications table, correcting any drift.
+     * Each user is rebuilt in a short transaction of its own under the user's rebuild lock, so
+     * changes of other users never wait and the user's own changes wait only for that
+     * transaction. Only counts that differ are written.
+     */
+    @Scheduled(cron = "${app.statistics.reconcile-cron}")
+    public void rebuildStatusCounts() {
+        log.info("Rebuilding application status counts");
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int corrected = 0;
+        int deleted = 0;
+        for (Long userId : userRepository.findAllIds()) {
+            int[] changed = transaction.execute(status -> {
+                statusCountRepository.lockForRebuild(userId);
+                return new int[] {
+                        statusCountRepository.upsertCountsFromApplications(userId),
+                        statusCountRepository.deleteCountsWithoutApplications(userId)};
+            });
+            corrected += changed[0];
+            deleted += changed[1];
+        }
+
+        log.info("Application status counts rebuilt: {} rows inserted or corrected, {} deleted", corrected, deleted);
+    }
+}
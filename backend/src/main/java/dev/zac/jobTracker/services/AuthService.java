@@ -2,6 +2,8 @@ package dev.zac.jobTracker.services;
 
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +15,9 @@ import dev.zac.jobTracker.entities.User;
 import dev.zac.jobTracker.exceptions.EmailAlreadyExistsException;
 import dev.zac.jobTracker.repositories.UserRepository;
 import dev.zac.jobTracker.security.JwtService;
+import dev.zac.jobTracker.security.TokenRevocationService;
+import dev.zac.jobTracker.security.VerifiedToken;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,12 +27,16 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "jobtracker.service", histogram = true)
 public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
+    private final TechnologyTagService technologyTagService;
 
     /**
      * Register a new user.
@@ -47,7 +56,7 @@ public class AuthService {
                 .email(request.getEmail())
                 .password(passwordEncoder.encode(request.getPassword()))
                 .experienceYears(request.getExperienceYears())
-                .technologyStack(request.getTechnologyStack())
+                .tagIds(technologyTagService.internTagIds(request.getTechnologyStack()))
                 .jobTitle(request.getJobTitle())
                 .role(User.Role.USER)
                 .build();
@@ -70,15 +79,16 @@ public class AuthService {
     public AuthResponseDto login(LoginRequestDto request) {
         log.info("User attempting login with email: {}", request.getEmail());
         
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getEmail(),
                         request.getPassword()
                 )
         );
 
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        // The authentication provider already loaded the user, so reuse it instead of querying again
+        User user = (User) authentication.getPrincipal();
+        userService.upgradePasswordHashInBackground(user, request.getPassword());
 
         String jwtToken = jwtService.generateToken(user);
         
@@ -86,4 +96,16 @@ public class AuthService {
         
         return new AuthResponseDto(jwtToken, user.getId(), user.getEmail(), user.getName());
     }
+
+    /**
+     * Log out by revoking the token the current request was authenticated with.
+     * Requests without a valid token have nothing to revoke.
+     */
+    public void logout() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getCredentials() instanceof VerifiedToken token) {
+            tokenRevocationService.revoke(token);
+            log.info("User logged out with ID: {}", token.userId());
+        }
+    }
 }
@@ -0,0 +1,40 @@
+package dev.zac.jobTracker.services;
+
+import java.util.List;
+
+import dev.zac.jobTracker.dto.jobApplication.JobApplicationDto;
+import dev.zac.jobTracker.entities.JobApplication;
+
+/**
+ * Maps job application entities to response DTOs.
+ * Technology tag names are resolved by the caller, so the mapping needs no collaborators.
+ */
+final class JobApplicationMapper {
+
+    private JobApplicationMapper() {
+    }
+
+    /**
+     * Convert JobApplication entity to JobApplicationDto.
+     *
+     * @param application the job application entity
+     * @param technologyStack names of the application's technology tags
+     * @return job application DTO
+     */
+    static JobApplicationDto toDto(JobApplication application, List<String> technologyStack) {
+        return JobApplicationDto.builder()
+                .id(application.getId())
+                .company(application.getCompany())
+                .jobTitle(application.getJobTitle())
+                .dateApplied(application.getDateApplied())
+                .status(application.getStatus())
+                .lastResponseDate(application.getLastResponseDate())
+                .technologyStack(technologyStack)
+                .requiredExperience(application.getRequiredExperience())
+                .notes(application.getNotes())
+                .createdAt(application.getCreatedAt())
+                .updatedAt(application.getUpdatedAt())
+                .version(application.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,260 @@
+package dev.zac.jobTracker.services;
+
+import java.time.temporal.Temporal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import dev.zac.jobTracker.config.ResultCacheProperties;
+import dev.zac.jobTracker.dto.common.CursorPageDto;
+import dev.zac.jobTracker.dto.common.PageResponseDto;
+import dev.zac.jobTracker.dto.jobApplication.JobApplicationDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache of job application query results, keyed by user, query and parameters.
+ * Each result remembers the collection version it was read at. Every change to a user's
+ * applications advances that version, so all of the user's results go out of date at once
+ * without being looked up, and the next read of each runs the query again.
+ * When that query takes longer than the stale-after delay, the previous result is served
+ * instead and the query finishes in the background to replace it.
+ * Cached results are shared between requests and must not be modified.
+ */
+@Component
+@Slf4j
+public class JobApplicationResultCache {
+
+    /**
+     * Request attribute holding the collection version of a stale result served to the request,
+     * so the response can carry the ETag that result was read at.
+     */
+    public static final String STALE_VERSION_ATTRIBUTE = JobApplicationResultCache.class.getName() + ".STALE_VERSION";
+
+    private static final String METRIC_NAME = "jobtracker.result.cache";
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor applicationTaskExecutor;
+    private final boolean enabled;
+    private final long staleAfterNanos;
+    private final Cache<ResultKey, CachedResult> results;
+    // Background refreshes in flight, so concurrent stale reads of a result share one query
+    private final Map<ResultKey, CompletableFuture<CachedResult>> refreshes = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter staleHits;
+    private final Counter evictions;
+
+    public JobApplicationResultCache(PlatformTransactionManager transactionManager, Executor applicationTaskExecutor,
+            ResultCacheProperties properties, MeterRegistry meterRegistry) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.enabled = properties.enabled();
+        this.staleAfterNanos = properties.staleAfter().toNanos();
+        this.hits = requests("hit", "Reads answered with a result of the current collection version", meterRegistry);
+        this.misses = requests("miss", "Reads that ran their query", meterRegistry);
+        this.staleHits = requests("stale", "Reads answered with an outdated result while its query was slow", meterRegistry);
+        this.evictions = Counter.builder(METRIC_NAME + ".evictions")
+                .description("Results dropped to stay within the memory budget or after going unused")
+                .register(meterRegistry);
+        this.results = Caffeine.newBuilder()
+                .maximumWeight(properties.maximumSize().toBytes())
+                .weigher((ResultKey key, CachedResult result) -> result.weight())
+                .expireAfterAccess(properties.expireAfterAccess())
+                .removalListener((ResultKey key, CachedResult result, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        evictions.increment();
+                    }
+                })
+                .build();
+        Gauge.builder(METRIC_NAME + ".hit.ratio", this, JobApplicationResultCache::hitRatio)
+                .description("Share of reads answered from the cache, stale results included")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", results, cache -> cache.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0))
+                        .orElse(0L))
+                .description("Estimated memory held by cached results")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".entries", results, Cache::estimatedSize)
+                .description("Cached results")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the result of a query over a user's job applications, running it only if no result of
+     * the current collection version is cached. A result of any other version is outdated.
+     *
+     * @param userId the user ID
+     * @param version the user's current collection version, read before the query runs so a
+     *                concurrent change can only make a result newer than its version
+     * @param query name of the query, unique among callers
+     * @param parameters the query parameters, compared with equals
+     * @param loader runs the query; called on a background thread when refreshing a stale result,
+     *               so it must not depend on the current request or security context
+     * @return the query result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long userId, long version, String query, List<?> parameters, Supplier<T> loader) {
+        if (!enabled) {
+            return readOnlyTransaction.execute(status -> loader.get());
+        }
+
+        ResultKey key = new ResultKey(userId, query, parameters);
+        CachedResult cached = results.getIfPresent(key);
+
+        if (cached != null && cached.version() == version) {
+            hits.increment();
+            return (T) cached.value();
+        }
+        if (cached == null) {
+            misses.increment();
+            return (T) load(key, version, loader).value();
+        }
+
+        CachedResult served;
+        try {
+            served = startRefresh(key, version, loader).get(staleAfterNanos, TimeUnit.NANOSECONDS);
+            misses.increment();
+        } catch (TimeoutException ex) {
+            served = cached;
+            staleHits.increment();
+            log.debug("Serving {} for user ID: {} from version {} while it is refreshed", query, userId, cached.version());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + query, ex);
+        } catch (ExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new CompletionException(ex.getCause());
+        }
+
+        // A refresh joined from an earlier read may be of another version too
+        if (served.version() != version) {
+            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+            if (requestAttributes != null) {
+                requestAttributes.setAttribute(STALE_VERSION_ATTRIBUTE, served.version(), RequestAttributes.SCOPE_REQUEST);
+            }
+        }
+        return (T) served.value();
+    }
+
+    /**
+     * Refresh a result in the background, or join the refresh already running for it.
+     *
+     * @param key the result key
+     * @param version the collection version read before the query
+     * @param loader runs the query
+     * @return the refreshed result once the query completes
+     */
+    private CompletableFuture<CachedResult> startRefresh(ResultKey key, long version, Supplier<?> loader) {
+        CompletableFuture<CachedResult> started = new CompletableFuture<>();
+        CompletableFuture<CachedResult> running = refreshes.putIfAbsent(key, started);
+        if (running != null) {
+            return running;
+        }
+
+        try {
+            applicationTaskExecutor.execute(() -> {
+                try {
+                    started.complete(load(key, version, loader));
+                } catch (RuntimeException ex) {
+                    started.completeExceptionally(ex);
+                } finally {
+                    refreshes.remove(key, started);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshes.remove(key, started);
+            started.completeExceptionally(ex);
+        }
+        return started;
+    }
+
+    /**
+     * Run a query and cache its result, replacing whatever result was cached for the key.
+     * Reads only accept a result of their exact version, so one stored out of order is reloaded.
+     *
+     * @param key the result key
+     * @param version the collection version read before the query
+     * @param loader runs the query
+     * @return the cached result
+     */
+    private CachedResult load(ResultKey key, long version, Supplier<?> loader) {
+        Object value = readOnlyTransaction.execute(status -> loader.get());
+        CachedResult loaded = new CachedResult(version, value, (int) Math.min(Integer.MAX_VALUE, estimateSize(value)));
+        results.put(key, loaded);
+        return loaded;
+    }
+
+    private double hitRatio() {
+        double answered = hits.count() + staleHits.count();
+        double total = answered + misses.count();
+        return total == 0 ? 0 : answered / total;
+    }
+
+    private static Counter requests(String result, String description, MeterRegistry meterRegistry) {
+        return Counter.builder(METRIC_NAME + ".requests")
+                .tag("result", result)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Estimate the memory a query result holds on to, from the shapes query results take.
+     * Strings count two bytes per character; fixed-size values and object headers use rough constants.
+     *
+     * @param value the result, or part of it
+     * @return estimated size in bytes
+     */
+    private static long estimateSize(Object value) {
+        return switch (value) {
+            case null -> 0;
+            case CharSequence text -> 40 + 2L * text.length();
+            case Number number -> 16;
+            case Enum<?> constant -> 0;
+            case Temporal temporal -> 24;
+            case JobApplicationDto application -> 160
+                    + estimateSize(application.getCompany())
+                    + estimateSize(application.getJobTitle())
+                    + estimateSize(application.getTechnologyStack())
+                    + estimateSize(application.getTagIds())
+                    + estimateSize(application.getNotes());
+            case PageResponseDto<?> page -> 48 + estimateSize(page.getContent());
+            case CursorPageDto<?> page -> 48 + estimateSize(page.getContent()) + estimateSize(page.getNextCursor());
+            case Collection<?> elements -> 32 + elements.stream().mapToLong(element -> 8 + estimateSize(element)).sum();
+            case Map<?, ?> entries -> 48 + entries.entrySet().stream()
+                    .mapToLong(entry -> 32 + estimateSize(entry.getKey()) + estimateSize(entry.getValue()))
+                    .sum();
+            case Object[] elements -> 16 + Arrays.stream(elements).mapToLong(element -> 8 + estimateSize(element)).sum();
+            default -> 64;
+        };
+    }
+
+    private record ResultKey(Long userId, String query, List<?> parameters) {}
+
+    private record CachedResult(long version, Object value, int weight) {}
+}
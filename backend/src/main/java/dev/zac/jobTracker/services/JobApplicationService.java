@@ -1,23 +1,83 @@
 package dev.zac.jobTracker.services;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import dev.zac.jobTracker.dto.common.CursorPageDto;
+import dev.zac.jobTracker.dto.common.PageResponseDto;
+import dev.zac.jobTracker.dto.jobApplication.ApplicationAnalyticsDto;
+import dev.zac.jobTracker.dto.jobApplication.BulkCreateRequestDto;
+import dev.zac.jobTracker.dto.jobApplication.BulkCreateResultDto;
+import dev.zac.jobTracker.dto.jobApplication.BulkItemErrorDto;
 import dev.zac.jobTracker.dto.jobApplication.CreateJobApplicationDto;
 import dev.zac.jobTracker.dto.jobApplication.JobApplicationDto;
+import dev.zac.jobTracker.dto.jobApplication.TechnologyTagCountDto;
 import dev.zac.jobTracker.dto.jobApplication.UpdateJobApplicationDto;
 import dev.zac.jobTracker.entities.JobApplication;
 import dev.zac.jobTracker.entities.User;
+import dev.zac.jobTracker.enums.ExportFormat;
+import dev.zac.jobTracker.enums.JobApplicationField;
 import dev.zac.jobTracker.enums.JobApplicationStatus;
+import dev.zac.jobTracker.exceptions.PreconditionFailedException;
 import dev.zac.jobTracker.exceptions.ResourceNotFoundException;
+import dev.zac.jobTracker.pagination.ApplicationKeyset;
+import dev.zac.jobTracker.pagination.SearchKeyset;
 import dev.zac.jobTracker.repositories.JobApplicationRepository;
+import dev.zac.jobTracker.repositories.JobApplicationSearchHit;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,10 +87,39 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "jobtracker.service", histogram = true)
 public class JobApplicationService {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+
+    private static final int BULK_FLUSH_SIZE = 500;
+
+    // JSON field names a merge patch may contain, mapped to the entity attributes they set
+    private static final Map<String, String> PATCHABLE_FIELDS = Map.of(
+            "company", "company",
+            "job_title", "jobTitle",
+            "date_applied", "dateApplied",
+            "status", "status",
+            "last_response_date", "lastResponseDate",
+            "technology_stack", "technologyStack",
+            "required_experience", "requiredExperience",
+            "notes", "notes");
+
+    private static final String CSV_HEADER = "id,company,job_title,date_applied,status,last_response_date,"
+            + "technology_stack,required_experience,notes,created_at,updated_at";
+
     private final JobApplicationRepository jobApplicationRepository;
     private final UserService userService;
+    private final ApplicationStatisticsService applicationStatisticsService;
+    private final ApplicationAnalyticsService applicationAnalyticsService;
+    private final ApplicationCollectionVersionService collectionVersionService;
+    private final TechnologyTagService technologyTagService;
+    private final JobApplicationResultCache resultCache;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Create a new job application.
@@ -40,42 +129,113 @@ public class JobApplicationService {
      */
     @Transactional
     public JobApplicationDto createJobApplication(CreateJobApplicationDto createRequest) {
-        User currentUser = userService.getCurrentUser();
+        User currentUser = userService.getCurrentUserReference();
         
         log.info("Creating job application for user ID: {} at company: {}", 
                 currentUser.getId(), createRequest.getCompany());
                 
-                JobApplication jobApplication = JobApplication.builder()
-                .company(createRequest.getCompany())
-                .jobTitle(createRequest.getJobTitle())
-                .dateApplied(createRequest.getDateApplied())
-                .status(createRequest.getStatus())
-                .lastResponseDate(createRequest.getLastResponseDate())
-                .technologyStack(createRequest.getTechnologyStack())
-                .requiredExperience(createRequest.getRequiredExperience())
-                .notes(createRequest.getNotes())
-                .user(currentUser)
-                .build();
+        JobApplication jobApplication = toJobApplication(createRequest, currentUser,
+                technologyTagService.internTagIds(createRequest.getTechnologyStack()));
 
         JobApplication savedApplication = jobApplicationRepository.save(jobApplication);
+        applicationStatisticsService.recordCreated(currentUser.getId(), savedApplication.getStatus());
+        collectionVersionService.recordChange(currentUser.getId());
         
         log.info("Job application created successfully with ID: {}", savedApplication.getId());
         
         return convertToJobApplicationDto(savedApplication);
     }
 
+    /**
+     * Create many job applications at once. Every item is validated, the valid ones are
+     * inserted in JDBC batches and the invalid ones are reported by index.
+     *
+     * @param createRequests the creation requests
+     * @return result with created IDs and per-item validation errors
+     * @throws IllegalArgumentException if there are more items than allowed in one request
+     */
+    @Transactional
+    public BulkCreateResultDto createJobApplications(List<CreateJobApplicationDto> createRequests) {
+        if (createRequests.size() > BulkCreateRequestDto.MAX_ITEMS) {
+            throw new IllegalArgumentException(
+                    "A bulk request can contain at most " + BulkCreateRequestDto.MAX_ITEMS + " job applications");
+        }
+        
+        User currentUser = userService.getCurrentUserReference();
+        
+        log.info("Bulk creating {} job applications for user ID: {}", createRequests.size(), currentUser.getId());
+        
+        List<CreateJobApplicationDto> validRequests = new ArrayList<>(createRequests.size());
+        List<BulkItemErrorDto> errors = new ArrayList<>();
+        for (int index = 0; index < createRequests.size(); index++) {
+            CreateJobApplicationDto createRequest = createRequests.get(index);
+            Map<String, String> validationErrors = validateCreateRequest(createRequest);
+            if (validationErrors.isEmpty()) {
+                validRequests.add(createRequest);
+            } else {
+                errors.add(BulkItemErrorDto.builder()
+                        .index(index)
+                        .validationErrors(validationErrors)
+                        .build());
+            }
+        }
+        
+        // Intern the technology stacks of the whole request at once
+        List<Integer[]> tagIds = technologyTagService.internAllTagIds(
+                validRequests.stream().map(CreateJobApplicationDto::getTechnologyStack).toList());
+        List<JobApplication> jobApplications = new ArrayList<>(validRequests.size());
+        for (int index = 0; index < validRequests.size(); index++) {
+            jobApplications.add(toJobApplication(validRequests.get(index), currentUser, tagIds.get(index)));
+        }
+        
+        // Flush and clear per chunk so the persistence context stays small
+        for (int from = 0; from < jobApplications.size(); from += BULK_FLUSH_SIZE) {
+            jobApplicationRepository.saveAll(
+                    jobApplications.subList(from, Math.min(from + BULK_FLUSH_SIZE, jobApplications.size())));
+            entityManager.flush();
+            entityManager.clear();
+        }
+        
+        List<Long> createdIds = new ArrayList<>(jobApplications.size());
+        Map<JobApplicationStatus, Long> createdByStatus = new EnumMap<>(JobApplicationStatus.class);
+        for (JobApplication jobApplication : jobApplications) {
+            createdIds.add(jobApplication.getId());
+            createdByStatus.merge(jobApplication.getStatus(), 1L, Long::sum);
+        }
+        applicationStatisticsService.recordCreated(currentUser.getId(), createdByStatus);
+        if (!createdIds.isEmpty()) {
+            collectionVersionService.recordChange(currentUser.getId());
+        }
+        
+        log.info("Bulk created {} job applications, rejected {}", createdIds.size(), errors.size());
+        
+        return BulkCreateResultDto.builder()
+                .requested(createRequests.size())
+                .created(createdIds.size())
+                .failed(errors.size())
+                .createdIds(createdIds)
+                .errors(errors)
+                .build();
+    }
+
     /**
      * Get all job applications for the current user.
      *
      * @param pageable pagination information
-     * @return page of job application DTOs
+     * @param fields the fields to read, or null for all fields
+     * @param collectionVersion the current user's collection version, read before the query
+     * @return page response of job application DTOs
      */
-    public Page<JobApplicationDto> getCurrentUserJobApplications(Pageable pageable) {
-        User currentUser = userService.getCurrentUser();
+    public PageResponseDto<JobApplicationDto> getCurrentUserJobApplications(Pageable pageable,
+            Set<JobApplicationField> fields, long collectionVersion) {
+        Long currentUserId = userService.getCurrentUserId();
         
-        Page<JobApplication> applications = jobApplicationRepository.findByUser(currentUser, pageable);
-        
-        return applications.map(this::convertToJobApplicationDto);
+        return resultCache.get(currentUserId, collectionVersion, "all", Arrays.asList(pageable, fields), () -> {
+            if (fields != null) {
+                return toPageResponse(jobApplicationRepository.findFieldsByUserId(currentUserId, fields, null, pageable));
+            }
+            return toPageResponse(jobApplicationRepository.findByUserId(currentUserId, pageable));
+        });
     }
 
     /**
@@ -85,31 +245,41 @@ public class JobApplicationService {
      * @return job application DTO
      * @throws ResourceNotFoundException if application not found
      */
+    @Transactional(readOnly = true)
     public JobApplicationDto getJobApplicationById(Long applicationId) {
-        User currentUser = userService.getCurrentUser();
+        Long currentUserId = userService.getCurrentUserId();
         
-        JobApplication application = jobApplicationRepository.findByIdAndUser(applicationId, currentUser)
+        return jobApplicationRepository.findDtoByIdAndUserId(applicationId, currentUserId)
+                .map(technologyTagService::resolveTechnologyStack)
                 .orElseThrow(() -> new ResourceNotFoundException("Job application not found with ID: " + applicationId));
-        
-        return convertToJobApplicationDto(application);
     }
 
     /**
      * Update a job application.
+     * The version check needs no extra read: the loaded row's version is compared with the
+     * expected ones, and the UPDATE itself only matches that version, so a write committed in
+     * between fails as well.
      *
      * @param applicationId the application ID
      * @param updateRequest the update request
+     * @param expectedVersions versions the client's copy may have, or null to update unconditionally
      * @return updated job application DTO
      * @throws ResourceNotFoundException if application not found
+     * @throws PreconditionFailedException if the application has a different version
      */
     @Transactional
-    public JobApplicationDto updateJobApplication(Long applicationId, UpdateJobApplicationDto updateRequest) {
-        User currentUser = userService.getCurrentUser();
+    public JobApplicationDto updateJobApplication(Long applicationId, UpdateJobApplicationDto updateRequest,
+            List<Long> expectedVersions) {
+        Long currentUserId = userService.getCurrentUserId();
         
-        log.info("Updating job application ID: {} for user ID: {}", applicationId, currentUser.getId());
+        log.info("Updating job application ID: {} for user ID: {}", applicationId, currentUserId);
         
-        JobApplication application = jobApplicationRepository.findByIdAndUser(applicationId, currentUser)
+        JobApplication application = jobApplicationRepository.findByIdAndUserId(applicationId, currentUserId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job application not found with ID: " + applicationId));
+        if (expectedVersions != null && !expectedVersions.contains(application.getVersion())) {
+            throw new PreconditionFailedException("Job application " + applicationId + " was modified since it was read");
+        }
+        JobApplicationStatus previousStatus = application.getStatus();
                 
         // Update fields
         application.setCompany(updateRequest.getCompany());
@@ -117,17 +287,94 @@ public class JobApplicationService {
         application.setDateApplied(updateRequest.getDateApplied());
         application.setStatus(updateRequest.getStatus());
         application.setLastResponseDate(updateRequest.getLastResponseDate());
-        application.setTechnologyStack(updateRequest.getTechnologyStack());
+        application.setTagIds(technologyTagService.internTagIds(updateRequest.getTechnologyStack()));
         application.setRequiredExperience(updateRequest.getRequiredExperience());
         application.setNotes(updateRequest.getNotes());
 
-        JobApplication updatedApplication = jobApplicationRepository.save(application);
+        // Flush now so the returned DTO carries the new version
+        JobApplication updatedApplication = jobApplicationRepository.saveAndFlush(application);
+        applicationStatisticsService.recordStatusChange(currentUserId, previousStatus, updatedApplication.getStatus());
+        collectionVersionService.recordChange(currentUserId);
         
         log.info("Job application updated successfully with ID: {}", updatedApplication.getId());
         
         return convertToJobApplicationDto(updatedApplication);
     }
 
+    /**
+     * Apply a JSON Merge Patch (RFC 7396) to a job application.
+     * The row is never loaded: one UPDATE writes only the patched columns, the version and the
+     * update time. Only a status change first reads and locks the old status, which the
+     * counters need.
+     *
+     * @param applicationId the application ID
+     * @param patch the merge patch, a JSON object of snake_case field names
+     * @param expectedVersions versions the client's copy may have, or null to patch unconditionally
+     * @return the version of the application after the patch
+     * @throws IllegalArgumentException if the patch is not an object, names unknown fields or has unreadable values
+     * @throws ConstraintViolationException if a patched value is invalid
+     * @throws ResourceNotFoundException if application not found
+     * @throws PreconditionFailedException if the application has a different version
+     */
+    @Transactional
+    public long patchJobApplication(Long applicationId, JsonNode patch, List<Long> expectedVersions) {
+        Long currentUserId = userService.getCurrentUserId();
+        
+        log.info("Patching job application ID: {} for user ID: {}", applicationId, currentUserId);
+        
+        Map<String, Object> changes = readMergePatch(patch);
+        if (changes.containsKey("technologyStack")) {
+            // Stored as tag IDs
+            changes.put("tagIds", technologyTagService.internTagIds(
+                    readTechnologyStack(changes.remove("technologyStack"))));
+        }
+        if (changes.isEmpty()) {
+            long version = jobApplicationRepository.findVersionByIdAndUserId(applicationId, currentUserId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Job application not found with ID: " + applicationId));
+            if (expectedVersions != null && !expectedVersions.contains(version)) {
+                throw new PreconditionFailedException("Job application " + applicationId + " was modified since it was read");
+            }
+            return version;
+        }
+        
+        JobApplicationStatus previousStatus = null;
+        if (changes.containsKey("status")) {
+            previousStatus = jobApplicationRepository.findStatusForUpdate(applicationId, currentUserId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Job application not found with ID: " + applicationId));
+        }
+        
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<JobApplication> update = criteriaBuilder.createCriteriaUpdate(JobApplication.class);
+        Root<JobApplication> application = update.from(JobApplication.class);
+        changes.forEach(update::set);
+        update.set(application.<LocalDateTime>get("updatedAt"), LocalDateTime.now());
+        update.set(application.<Long>get("version"), criteriaBuilder.sum(application.<Long>get("version"), 1L));
+        Predicate matches = criteriaBuilder.and(
+                criteriaBuilder.equal(application.get("id"), applicationId),
+                criteriaBuilder.equal(application.get("user").get("id"), currentUserId));
+        if (expectedVersions != null) {
+            matches = criteriaBuilder.and(matches, application.get("version").in(expectedVersions));
+        }
+        update.where(matches);
+        
+        if (entityManager.createQuery(update).executeUpdate() == 0) {
+            // Only on failure: tell a missing application from a stale version
+            if (jobApplicationRepository.findVersionByIdAndUserId(applicationId, currentUserId).isEmpty()) {
+                throw new ResourceNotFoundException("Job application not found with ID: " + applicationId);
+            }
+            throw new PreconditionFailedException("Job application " + applicationId + " was modified since it was read");
+        }
+        if (previousStatus != null) {
+            applicationStatisticsService.recordStatusChange(
+                    currentUserId, previousStatus, (JobApplicationStatus) changes.get("status"));
+        }
+        collectionVersionService.recordChange(currentUserId);
+        
+        log.info("Job application patched successfully with ID: {}, fields: {}", applicationId, changes.keySet());
+        
+        return jobApplicationRepository.findVersionByIdAndUserId(applicationId, currentUserId).orElseThrow();
+    }
+
     /**
      * Delete a job application.
      *
@@ -136,14 +383,16 @@ public class JobApplicationService {
      */
     @Transactional
     public void deleteJobApplication(Long applicationId) {
-        User currentUser = userService.getCurrentUser();
+        Long currentUserId = userService.getCurrentUserId();
         
-        log.info("Deleting job application ID: {} for user ID: {}", applicationId, currentUser.getId());
+        log.info("Deleting job application ID: {} for user ID: {}", applicationId, currentUserId);
         
-        JobApplication application = jobApplicationRepository.findByIdAndUser(applicationId, currentUser)
+        JobApplication application = jobApplicationRepository.findByIdAndUserId(applicationId, currentUserId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job application not found with ID: " + applicationId));
 
         jobApplicationRepository.delete(application);
+        applicationStatisticsService.recordDeleted(currentUserId, application.getStatus());
+        collectionVersionService.recordChange(currentUserId);
         
         log.info("Job application deleted successfully with ID: {}", applicationId);
     }
@@ -153,14 +402,21 @@ public class JobApplicationService {
      *
      * @param status the application status
      * @param pageable pagination information
-     * @return page of job application DTOs
+     * @param fields the fields to read, or null for all fields
+     * @param collectionVersion the current user's collection version, read before the query
+     * @return page response of job application DTOs
      */
-    public Page<JobApplicationDto> getJobApplicationsByStatus(JobApplicationStatus status, Pageable pageable) {
-        User currentUser = userService.getCurrentUser();
-        
-        Page<JobApplication> applications = jobApplicationRepository.findByUserAndStatus(currentUser, status, pageable);
+    public PageResponseDto<JobApplicationDto> getJobApplicationsByStatus(JobApplicationStatus status, Pageable pageable,
+            Set<JobApplicationField> fields, long collectionVersion) {
+        Long currentUserId = userService.getCurrentUserId();
         
-        return applications.map(this::convertToJobApplicationDto);
+        return resultCache.get(currentUserId, collectionVersion, "status", Arrays.asList(status, pageable, fields), () -> {
+            if (fields != null) {
+                return toPageResponse(jobApplicationRepository.findFieldsByUserId(currentUserId, fields,
+                        (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("status"), status), pageable));
+            }
+            return toPageResponse(jobApplicationRepository.findByUserIdAndStatus(currentUserId, status, pageable));
+        });
     }
 
     /**
@@ -168,15 +424,64 @@ public class JobApplicationService {
      *
      * @param company the company name search term
      * @param pageable pagination information
-     * @return page of job application DTOs
+     * @param fields the fields to read, or null for all fields
+     * @param collectionVersion the current user's collection version, read before the query
+     * @return page response of job application DTOs
+     */
+    public PageResponseDto<JobApplicationDto> searchJobApplicationsByCompany(String company, Pageable pageable,
+            Set<JobApplicationField> fields, long collectionVersion) {
+        Long currentUserId = userService.getCurrentUserId();
+        
+        return resultCache.get(currentUserId, collectionVersion, "company", Arrays.asList(company, pageable, fields), () -> {
+            if (fields != null) {
+                String pattern = "%" + EscapeCharacter.DEFAULT.escape(company) + "%";
+                return toPageResponse(jobApplicationRepository.findFieldsByUserId(currentUserId, fields,
+                        (root, query, criteriaBuilder) -> criteriaBuilder.like(
+                                criteriaBuilder.upper(root.get("company")),
+                                criteriaBuilder.upper(((HibernateCriteriaBuilder) criteriaBuilder).value(pattern)),
+                                EscapeCharacter.DEFAULT.getEscapeCharacter()),
+                        pageable));
+            }
+            return toPageResponse(jobApplicationRepository
+                    .findByUserIdAndCompanyContainingIgnoreCase(currentUserId, company, pageable));
+        });
+    }
+
+    /**
+     * Get the current user's job applications that carry all of the given technology tags.
+     *
+     * @param tags the technology names
+     * @param pageable pagination information
+     * @param collectionVersion the current user's collection version, read before the query
+     * @return page response of job application DTOs
+     * @throws IllegalArgumentException if no tag is given
      */
-    public Page<JobApplicationDto> searchJobApplicationsByCompany(String company, Pageable pageable) {
-        User currentUser = userService.getCurrentUser();
+    public PageResponseDto<JobApplicationDto> getJobApplicationsByTags(List<String> tags, Pageable pageable,
+            long collectionVersion) {
+        Long currentUserId = userService.getCurrentUserId();
         
-        Page<JobApplication> applications = jobApplicationRepository
-                .findByUserAndCompanyContainingIgnoreCase(currentUser, company, pageable);
+        Optional<Integer[]> tagIds = technologyTagService.findTagIds(tags);
+        if (tagIds.isEmpty()) {
+            return PageResponseDto.of(Page.empty(pageable));
+        }
+        return resultCache.get(currentUserId, collectionVersion, "tags", Arrays.asList(List.of(tagIds.get()), pageable),
+                () -> toPageResponse(jobApplicationRepository
+                        .findByUserIdAndTagIdsContaining(currentUserId, tagIds.get(), pageable)));
+    }
+
+    /**
+     * Get how many of the current user's job applications carry each technology tag, most used first.
+     *
+     * @param collectionVersion the current user's collection version, read before the query
+     * @return list of tags with their application counts
+     */
+    public List<TechnologyTagCountDto> getTechnologyTagCounts(long collectionVersion) {
+        Long currentUserId = userService.getCurrentUserId();
         
-        return applications.map(this::convertToJobApplicationDto);
+        return resultCache.get(currentUserId, collectionVersion, "tag-counts", List.of(),
+                () -> jobApplicationRepository.countTechnologyTagsByUserId(currentUserId).stream()
+                        .map(count -> new TechnologyTagCountDto(count.getTag(), count.getApplications()))
+                        .toList());
     }
 
     /**
@@ -185,36 +490,451 @@ public class JobApplicationService {
      * @param startDate the start date
      * @param endDate the end date
      * @param pageable pagination information
-     * @return page of job application DTOs
+     * @param fields the fields to read, or null for all fields
+     * @param collectionVersion the current user's collection version, read before the query
+     * @return page response of job application DTOs
+     */
+    public PageResponseDto<JobApplicationDto> getJobApplicationsByDateRange(LocalDate startDate, LocalDate endDate, Pageable pageable,
+            Set<JobApplicationField> fields, long collectionVersion) {
+        Long currentUserId = userService.getCurrentUserId();
+        
+        return resultCache.get(currentUserId, collectionVersion, "date-range", Arrays.asList(startDate, endDate, pageable, fields), () -> {
+            if (fields != null) {
+                return toPageResponse(jobApplicationRepository.findFieldsByUserId(currentUserId, fields,
+                        (root, query, criteriaBuilder) -> criteriaBuilder.between(root.get("dateApplied"), startDate, endDate),
+                        pageable));
+            }
+            return toPageResponse(jobApplicationRepository
+                    .findByUserIdAndDateAppliedBetween(currentUserId, startDate, endDate, pageable));
+        });
+    }
+
+    /**
+     * Scroll through the current user's job applications, newest first, using keyset pagination.
+     *
+     * @param cursor the cursor returned with the previous slice, or null for the first slice
+     * @param size the maximum number of applications to return
+     * @return cursor page of job application DTOs
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<JobApplicationDto> scrollCurrentUserJobApplications(String cursor, int size) {
+        Long currentUserId = userService.getCurrentUserId();
+        Limit limit = scrollLimit(size);
+        
+        List<JobApplicationDto> applications;
+        if (cursor == null) {
+            applications = jobApplicationRepository.findKeysetFirstByUserId(currentUserId, limit);
+        } else {
+            ApplicationKeyset position = ApplicationKeyset.decode(cursor);
+            applications = jobApplicationRepository
+                    .findKeysetAfterByUserId(currentUserId, position.dateApplied(), position.id(), limit);
+        }
+        
+        return toCursorPage(applications, limit);
+    }
+
+    /**
+     * Scroll through the current user's job applications with a status, newest first, using keyset pagination.
+     *
+     * @param status the application status
+     * @param cursor the cursor returned with the previous slice, or null for the first slice
+     * @param size the maximum number of applications to return
+     * @return cursor page of job application DTOs
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<JobApplicationDto> scrollJobApplicationsByStatus(JobApplicationStatus status, String cursor, int size) {
+        Long currentUserId = userService.getCurrentUserId();
+        Limit limit = scrollLimit(size);
+        
+        List<JobApplicationDto> applications;
+        if (cursor == null) {
+            applications = jobApplicationRepository.findKeysetFirstByUserIdAndStatus(currentUserId, status, limit);
+        } else {
+            ApplicationKeyset position = ApplicationKeyset.decode(cursor);
+            applications = jobApplicationRepository.findKeysetAfterByUserIdAndStatus(
+                    currentUserId, status, position.dateApplied(), position.id(), limit);
+        }
+        
+        return toCursorPage(applications, limit);
+    }
+
+    /**
+     * Scroll through the current user's job applications within a date range, newest first, using keyset pagination.
+     *
+     * @param startDate the start date
+     * @param endDate the end date
+     * @param cursor the cursor returned with the previous slice, or null for the first slice
+     * @param size the maximum number of applications to return
+     * @return cursor page of job application DTOs
+     * @throws IllegalArgumentException if the cursor is malformed
      */
-    public Page<JobApplicationDto> getJobApplicationsByDateRange(LocalDate startDate, LocalDate endDate, Pageable pageable) {
-        User currentUser = userService.getCurrentUser();
+    @Transactional(readOnly = true)
+    public CursorPageDto<JobApplicationDto> scrollJobApplicationsByDateRange(
+            LocalDate startDate, LocalDate endDate, String cursor, int size) {
+        Long currentUserId = userService.getCurrentUserId();
+        Limit limit = scrollLimit(size);
         
-        Page<JobApplication> applications = jobApplicationRepository
-                .findByUserAndDateAppliedBetween(currentUser, startDate, endDate, pageable);
+        List<JobApplicationDto> applications;
+        if (cursor == null) {
+            applications = jobApplicationRepository
+                    .findKeysetFirstByUserIdAndDateAppliedBetween(currentUserId, startDate, endDate, limit);
+        } else {
+            ApplicationKeyset position = ApplicationKeyset.decode(cursor);
+            applications = jobApplicationRepository.findKeysetAfterByUserIdAndDateAppliedBetween(
+                    currentUserId, startDate, endDate, position.dateApplied(), position.id(), limit);
+        }
         
-        return applications.map(this::convertToJobApplicationDto);
+        return toCursorPage(applications, limit);
+    }
+
+    /**
+     * Search the current user's job applications by company, job title, technology stack and notes,
+     * most relevant first, using keyset pagination.
+     *
+     * @param query the search query, supporting quoted phrases, "or" and "-" exclusions
+     * @param cursor the cursor returned with the previous slice, or null for the first slice
+     * @param size the maximum number of applications to return
+     * @return cursor page of job application DTOs
+     * @throws IllegalArgumentException if the query is blank or the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<JobApplicationDto> searchJobApplications(String query, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        
+        Long currentUserId = userService.getCurrentUserId();
+        String term = query.strip();
+        String pattern = "%" + escapeLikePattern(term) + "%";
+        Limit limit = scrollLimit(size);
+        
+        List<JobApplicationSearchHit> hits;
+        if (cursor == null) {
+            hits = jobApplicationRepository.searchFirstByUserId(currentUserId, term, pattern, limit.max());
+        } else {
+            SearchKeyset position = SearchKeyset.decode(cursor);
+            hits = jobApplicationRepository.searchAfterByUserId(
+                    currentUserId, term, pattern, position.rank(), position.id(), limit.max());
+        }
+        
+        int pageSize = limit.max() - 1;
+        boolean hasNext = hits.size() > pageSize;
+        List<JobApplicationSearchHit> pageHits = hasNext ? hits.subList(0, pageSize) : hits;
+        
+        // Load the matched rows in one query and restore the rank order
+        Map<Long, JobApplicationDto> applicationsById = new HashMap<>();
+        for (JobApplicationDto application : jobApplicationRepository.findDtosByUserIdAndIdIn(
+                currentUserId, pageHits.stream().map(JobApplicationSearchHit::getId).toList())) {
+            applicationsById.put(application.getId(), application);
+        }
+        List<JobApplicationDto> content = pageHits.stream()
+                .map(hit -> applicationsById.get(hit.getId()))
+                .filter(Objects::nonNull)
+                .toList();
+        technologyTagService.resolveTechnologyStacks(content);
+        
+        Slice<JobApplicationDto> slice = new SliceImpl<>(content, PageRequest.ofSize(pageSize), hasNext);
+        String nextCursor = hasNext ? SearchKeyset.of(pageHits.get(pageSize - 1)).encode() : null;
+        
+        return CursorPageDto.of(slice, nextCursor);
+    }
+
+    /**
+     * Export all of the current user's job applications, newest first.
+     * Rows are streamed from the database and written one at a time, so memory use does not
+     * grow with the number of applications.
+     *
+     * @param format the export format
+     * @return response body writing the export
+     */
+    public StreamingResponseBody exportJobApplications(ExportFormat format) {
+        // Resolved on the request thread, the body is written on an async thread
+        Long currentUserId = userService.getCurrentUserId();
+        
+        log.info("Exporting job applications for user ID: {} as {}", currentUserId, format);
+        
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        
+        // Timed while it is written, the same way @Timed times the other methods (see MetricsConfig)
+        return outputStream -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String exception = "none";
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<JobApplicationDto> applications = jobApplicationRepository.streamDtosByUserId(currentUserId)
+                            .map(technologyTagService::resolveTechnologyStack)) {
+                        switch (format) {
+                            case CSV -> writeCsv(applications, outputStream);
+                            case NDJSON -> writeNdjson(applications, outputStream);
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            } catch (RuntimeException ex) {
+                exception = ex.getClass().getSimpleName();
+                throw ex;
+            } finally {
+                sample.stop(Timer.builder("jobtracker.service")
+                        .tags("class", JobApplicationService.class.getName(), "method", "exportJobApplications",
+                                "exception", exception)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+            }
+        };
+    }
+
+    /**
+     * Get the collection version of the current user, which changes whenever any of their
+     * job applications is created, updated or deleted.
+     *
+     * @return the collection version
+     */
+    public long getCollectionVersion() {
+        return collectionVersionService.getVersion(userService.getCurrentUserId());
     }
 
     /**
      * Get application statistics for the current user.
      *
+     * @param collectionVersion the current user's collection version, read before the query
      * @return map of status to count
      */
-    public Map<JobApplicationStatus, Long> getApplicationStatistics() {
-        User currentUser = userService.getCurrentUser();
+    public Map<JobApplicationStatus, Long> getApplicationStatistics(long collectionVersion) {
+        Long currentUserId = userService.getCurrentUserId();
+        
+        return resultCache.get(currentUserId, collectionVersion, "statistics", List.of(),
+                () -> applicationStatisticsService.getStatusCounts(currentUserId));
+    }
+
+    /**
+     * Get pipeline analytics for the current user: the stage funnel, the median time to a
+     * response and the weekly application velocity.
+     *
+     * @param weeks the number of weeks of velocity to include
+     * @return the analytics
+     */
+    public ApplicationAnalyticsDto getApplicationAnalytics(int weeks) {
+        Long currentUserId = userService.getCurrentUserId();
+        
+        return applicationAnalyticsService.getAnalytics(currentUserId, weeks);
+    }
+
+    /**
+     * Build the row limit for a keyset query, fetching one extra row to detect a next slice.
+     *
+     * @param size the requested slice size
+     * @return the row limit
+     */
+    private Limit scrollLimit(int size) {
+        return Limit.of(Math.clamp(size, 1, MAX_SCROLL_SIZE) + 1);
+    }
+
+    /**
+     * Write job applications as CSV with a header row.
+     *
+     * @param applications the job applications
+     * @param outputStream the response output stream
+     * @throws IOException if writing fails
+     */
+    private void writeCsv(Stream<JobApplicationDto> applications, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        
+        for (JobApplicationDto application : (Iterable<JobApplicationDto>) applications::iterator) {
+            List<String> technologyStack = application.getTechnologyStack();
+            String[] values = {
+                    String.valueOf(application.getId()),
+                    application.getCompany(),
+                    application.getJobTitle(),
+                    Objects.toString(application.getDateApplied(), null),
+                    application.getStatus().name(),
+                    Objects.toString(application.getLastResponseDate(), null),
+                    technologyStack == null ? null : String.join(";", technologyStack),
+                    Objects.toString(application.getRequiredExperience(), null),
+                    application.getNotes(),
+                    Objects.toString(application.getCreatedAt(), null),
+                    Objects.toString(application.getUpdatedAt(), null)
+            };
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escapeCsvValue(values[i]));
+            }
+            writer.write("\r\n");
+        }
+        
+        writer.flush();
+    }
+
+    /**
+     * Write job applications as newline-delimited JSON.
+     *
+     * @param applications the job applications
+     * @param outputStream the response output stream
+     * @throws IOException if writing fails
+     */
+    private void writeNdjson(Stream<JobApplicationDto> applications, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
+            for (JobApplicationDto application : (Iterable<JobApplicationDto>) applications::iterator) {
+                writer.writeValue(generator, application);
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    /**
+     * Quote a CSV value if it contains a separator, quote or line break.
+     *
+     * @param value the value, or null for an empty field
+     * @return the CSV field
+     */
+    private String escapeCsvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    /**
+     * Validate a creation request.
+     *
+     * @param createRequest the creation request, possibly null
+     * @return map of field to error message, empty if valid
+     */
+    private Map<String, String> validateCreateRequest(CreateJobApplicationDto createRequest) {
+        if (createRequest == null) {
+            return Map.of("item", "Job application is required");
+        }
         
-        List<Object[]> stats = jobApplicationRepository.getApplicationStatsByUser(currentUser.getId());
+        Map<String, String> validationErrors = new HashMap<>();
+        for (ConstraintViolation<CreateJobApplicationDto> violation : validator.validate(createRequest)) {
+            validationErrors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return validationErrors;
+    }
+
+    /**
+     * Read a merge patch into the entity attributes it changes, validating each patched value
+     * against the constraints of a full update. Fields missing from the patch stay unchanged,
+     * null clears a field.
+     *
+     * @param patch the merge patch
+     * @return map of entity attribute name to new value, in patch order
+     * @throws IllegalArgumentException if the patch is not an object, names unknown fields or has unreadable values
+     * @throws ConstraintViolationException if a patched value is invalid
+     */
+    private Map<String, Object> readMergePatch(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("A merge patch must be a JSON object");
+        }
         
-        Map<JobApplicationStatus, Long> statusCounts = new HashMap<>();
+        UpdateJobApplicationDto values;
+        try {
+            values = objectMapper.treeToValue(patch, UpdateJobApplicationDto.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Invalid merge patch: " + ex.getOriginalMessage(), ex);
+        }
+        BeanWrapper patchedValues = PropertyAccessorFactory.forBeanPropertyAccess(values);
         
-        for (Object[] stat : stats) {
-            JobApplicationStatus status = (JobApplicationStatus) stat[0];
-            Long count = (Long) stat[1];
-            statusCounts.put(status, count);
+        Map<String, Object> changes = new LinkedHashMap<>();
+        Set<ConstraintViolation<UpdateJobApplicationDto>> violations = new LinkedHashSet<>();
+        for (Iterator<String> fields = patch.fieldNames(); fields.hasNext(); ) {
+            String field = fields.next();
+            String attribute = PATCHABLE_FIELDS.get(field);
+            if (attribute == null) {
+                throw new IllegalArgumentException("Field cannot be patched: " + field);
+            }
+            violations.addAll(validator.validateProperty(values, attribute));
+            changes.put(attribute, patchedValues.getPropertyValue(attribute));
         }
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return changes;
+    }
+
+    /**
+     * Build a new JobApplication entity from a creation request.
+     *
+     * @param createRequest the creation request
+     * @param user the owning user
+     * @param tagIds the interned technology stack
+     * @return the unsaved job application
+     */
+    private JobApplication toJobApplication(CreateJobApplicationDto createRequest, User user, Integer[] tagIds) {
+        return JobApplication.builder()
+                .company(createRequest.getCompany())
+                .jobTitle(createRequest.getJobTitle())
+                .dateApplied(createRequest.getDateApplied())
+                .status(createRequest.getStatus())
+                .lastResponseDate(createRequest.getLastResponseDate())
+                .tagIds(tagIds)
+                .requiredExperience(createRequest.getRequiredExperience())
+                .notes(createRequest.getNotes())
+                .user(user)
+                .build();
+    }
+
+    /**
+     * Read the technology stack of a merge patch, as bound by readMergePatch.
+     *
+     * @param value the patched value
+     * @return the technology names, or null to clear the stack
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> readTechnologyStack(Object value) {
+        return (List<String>) value;
+    }
+
+    /**
+     * Convert a page of DTOs read by a repository into a page response, with their technology stacks resolved.
+     *
+     * @param page the page read
+     * @return page response of job application DTOs
+     */
+    private PageResponseDto<JobApplicationDto> toPageResponse(Page<JobApplicationDto> page) {
+        technologyTagService.resolveTechnologyStacks(page.getContent());
+        return PageResponseDto.of(page);
+    }
+
+    /**
+     * Escape the ILIKE wildcards in a search term so it is matched literally.
+     *
+     * @param term the search term
+     * @return the escaped term
+     */
+    private String escapeLikePattern(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Convert the rows of a keyset query into a cursor page.
+     *
+     * @param applications the rows, including the extra look-ahead row if present
+     * @param limit the row limit used for the query
+     * @return cursor page of job application DTOs
+     */
+    private CursorPageDto<JobApplicationDto> toCursorPage(List<JobApplicationDto> applications, Limit limit) {
+        int size = limit.max() - 1;
+        boolean hasNext = applications.size() > size;
+        List<JobApplicationDto> content = hasNext ? applications.subList(0, size) : applications;
+        technologyTagService.resolveTechnologyStacks(content);
+        
+        Slice<JobApplicationDto> slice = new SliceImpl<>(content, PageRequest.ofSize(size), hasNext);
+        String nextCursor = hasNext ? ApplicationKeyset.of(content.get(size - 1)).encode() : null;
         
-        return statusCounts;
+        return CursorPageDto.of(slice, nextCursor);
     }
 
     /**
@@ -224,18 +944,6 @@ public class JobApplicationService {
      * @return job application DTO
      */    
     private JobApplicationDto convertToJobApplicationDto(JobApplication application) {
-        return JobApplicationDto.builder()
-                .id(application.getId())
-                .company(application.getCompany())
-                .jobTitle(application.getJobTitle())
-                .dateApplied(application.getDateApplied())
-                .status(application.getStatus())
-                .lastResponseDate(application.getLastResponseDate())
-                .technologyStack(application.getTechnologyStack())
-                .requiredExperience(application.getRequiredExperience())
-                .notes(application.getNotes())
-                .createdAt(application.getCreatedAt())
-                .updatedAt(application.getUpdatedAt())
-                .build();
+        return JobApplicationMapper.toDto(application, technologyTagService.getNames(application.getTagIds()));
     }
 }
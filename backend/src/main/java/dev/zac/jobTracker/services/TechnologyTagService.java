@@ -0,0 +1,214 @@
+package dev.zac.jobTracker.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import dev.zac.jobTracker.dto.jobApplication.JobApplicationDto;
+import dev.zac.jobTracker.entities.TechnologyTag;
+import dev.zac.jobTracker.repositories.TechnologyTagRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service translating between technology names and the IDs of their interned tags.
+ * Technology stacks are stored as tag IDs only; names are interned in batches on write and
+ * resolved again for responses.
+ * Tags are never renamed or deleted, so both directions are kept in memory; unknown names are
+ * looked up again every time, as another request may intern them later.
+ */
+@Service
+@RequiredArgsConstructor
+public class TechnologyTagService {
+
+    private static final int MAXIMUM_CACHED_TAGS = 10_000;
+
+    private final TechnologyTagRepository technologyTagRepository;
+    private final Cache<String, Integer> tagIdsByName = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_CACHED_TAGS)
+            .build();
+    private final Cache<Integer, String> namesById = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_CACHED_TAGS)
+            .build();
+
+    /**
+     * Resolve technology names to tag IDs, trimming spaces the way interning does.
+     *
+     * @param names the technology names
+     * @return the tag IDs, or empty if any name has never been used, as no application can then have them all
+     * @throws IllegalArgumentException if no non-blank name is given
+     */
+    @Transactional(readOnly = true)
+    public Optional<Integer[]> findTagIds(Collection<String> names) {
+        Set<String> trimmedNames = trimNames(names);
+        if (trimmedNames.isEmpty()) {
+            throw new IllegalArgumentException("At least one technology tag is required");
+        }
+
+        Map<String, Integer> tagIds = tagIdsByName.getAll(trimmedNames, this::loadTagIds);
+        if (tagIds.size() < trimmedNames.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(tagIds.values().toArray(Integer[]::new));
+    }
+
+    /**
+     * Intern a technology stack.
+     *
+     * @param technologyStack the technology names, may be null
+     * @return the tag IDs in stack order, without blanks or repeats
+     */
+    @Transactional
+    public Integer[] internTagIds(List<String> technologyStack) {
+        return internAllTagIds(Collections.singletonList(technologyStack)).get(0);
+    }
+
+    /**
+     * Intern many technology stacks at once: cached names are resolved in memory, and the rest
+     * with one lookup and at most one insert for the whole batch.
+     * Tags found or inserted here are only cached once the transaction commits, as an insert
+     * that is rolled back would otherwise leave a cached ID without a tag.
+     *
+     * @param technologyStacks the technology names of each stack, which may be null
+     * @return the tag IDs of each stack in stack order, without blanks or repeats
+     */
+    @Transactional
+    public List<Integer[]> internAllTagIds(List<List<String>> technologyStacks) {
+        List<Set<String>> stacks = new ArrayList<>(technologyStacks.size());
+        Set<String> names = new HashSet<>();
+        for (List<String> technologyStack : technologyStacks) {
+            Set<String> stack = technologyStack == null ? Set.of() : trimNames(technologyStack);
+            stacks.add(stack);
+            names.addAll(stack);
+        }
+
+        Map<String, Integer> tagIds = new HashMap<>(tagIdsByName.getAllPresent(names));
+        if (tagIds.size() < names.size()) {
+            Set<String> missingNames = new HashSet<>(names);
+            missingNames.removeAll(tagIds.keySet());
+            Map<String, Integer> loaded = loadTagIds(missingNames);
+            if (loaded.size() < missingNames.size()) {
+                missingNames.removeAll(loaded.keySet());
+                technologyTagRepository.insertMissing(missingNames.toArray(String[]::new));
+                loaded.putAll(loadTagIds(missingNames));
+                if (loaded.size() < names.size() - tagIds.size()) {
+                    throw new IllegalStateException("Technology tags could not be interned");
+                }
+            }
+            tagIds.putAll(loaded);
+            cacheAfterCommit(loaded);
+        }
+
+        List<Integer[]> stackTagIds = new ArrayList<>(stacks.size());
+        for (Set<String> stack : stacks) {
+            stackTagIds.add(stack.stream().map(tagIds::get).toArray(Integer[]::new));
+        }
+        return stackTagIds;
+    }
+
+    /**
+     * Resolve tag IDs to technology names.
+     *
+     * @param tagIds the tag IDs, may be null
+     * @return the technology names in stack order
+     */
+    public List<String> getNames(Integer[] tagIds) {
+        if (tagIds == null || tagIds.length == 0) {
+            return List.of();
+        }
+        Map<Integer, String> names = namesById.getAll(Arrays.asList(tagIds), this::loadNames);
+        return Arrays.stream(tagIds).map(names::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Fill in the technology stacks of response DTOs from their tag IDs, looking up uncached tags
+     * for all of them at once.
+     *
+     * @param applications the job application DTOs
+     */
+    public void resolveTechnologyStacks(Collection<JobApplicationDto> applications) {
+        Set<Integer> tagIds = new HashSet<>();
+        for (JobApplicationDto application : applications) {
+            if (application.getTagIds() != null) {
+                tagIds.addAll(Arrays.asList(application.getTagIds()));
+            }
+        }
+        if (!tagIds.isEmpty()) {
+            namesById.getAll(tagIds, this::loadNames);
+        }
+        applications.forEach(this::resolveTechnologyStack);
+    }
+
+    /**
+     * Fill in the technology stack of a response DTO from its tag IDs. A DTO read without its tag IDs,
+     * for a request that did not ask for the technology stack, is left unchanged.
+     *
+     * @param application the job application DTO
+     * @return the same DTO
+     */
+    public JobApplicationDto resolveTechnologyStack(JobApplicationDto application) {
+        if (application.getTagIds() != null) {
+            application.setTechnologyStack(getNames(application.getTagIds()));
+        }
+        return application;
+    }
+
+    private Map<String, Integer> loadTagIds(Set<? extends String> names) {
+        Map<String, Integer> tagIds = new HashMap<>();
+        for (TechnologyTag tag : technologyTagRepository.findByNameIn(Set.copyOf(names))) {
+            tagIds.put(tag.getName(), tag.getId());
+            namesById.put(tag.getId(), tag.getName());
+        }
+        return tagIds;
+    }
+
+    private Map<Integer, String> loadNames(Set<? extends Integer> tagIds) {
+        Map<Integer, String> names = new HashMap<>();
+        for (TechnologyTag tag : technologyTagRepository.findAllById(Set.copyOf(tagIds))) {
+            names.put(tag.getId(), tag.getName());
+        }
+        return names;
+    }
+
+    private void cacheAfterCommit(Map<String, Integer> tagIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tagIdsByName.putAll(tagIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tagIdsByName.putAll(tagIds);
+            }
+        });
+    }
+
+    private static Set<String> trimNames(Collection<String> names) {
+        Set<String> trimmedNames = new LinkedHashSet<>();
+        for (String name : names) {
+            String trimmedName = name == null ? "" : StringUtils.trimTrailingCharacter(
+                    StringUtils.trimLeadingCharacter(name, ' '), ' ');
+            if (!trimmedName.isEmpty()) {
+                trimmedNames.add(trimmedName);
+            }
+        }
+        return trimmedNames;
+    }
+}
@@ -1,10 +1,15 @@
 package dev.zac.jobTracker.services;
 
+import java.util.concurrent.Executor;
+
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import dev.zac.jobTracker.dto.auth.ChangePasswordDto;
 import dev.zac.jobTracker.dto.user.UpdateUserProfileDto;
@@ -13,6 +18,10 @@ import dev.zac.jobTracker.entities.User;
 import dev.zac.jobTracker.exceptions.EmailAlreadyExistsException;
 import dev.zac.jobTracker.exceptions.ResourceNotFoundException;
 import dev.zac.jobTracker.repositories.UserRepository;
+import dev.zac.jobTracker.security.AuthenticatedUser;
+import dev.zac.jobTracker.security.BoundedPasswordEncoder;
+import dev.zac.jobTracker.security.TokenRevocationService;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -25,7 +34,13 @@ import lombok.extern.slf4j.Slf4j;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final EntityManagerFactory entityManagerFactory;
+    private final PlatformTransactionManager transactionManager;
+    private final TokenRevocationService tokenRevocationService;
+    private final TechnologyTagService technologyTagService;
+    // Resolved by name, the scheduler is an Executor too
+    private final Executor applicationTaskExecutor;
 
     /**
      * Get current authenticated user's profile.
@@ -59,10 +74,11 @@ public class UserService {
         user.setName(updateRequest.getName());
         user.setEmail(updateRequest.getEmail());
         user.setExperienceYears(updateRequest.getExperienceYears());
-        user.setTechnologyStack(updateRequest.getTechnologyStack());
+        user.setTagIds(technologyTagService.internTagIds(updateRequest.getTechnologyStack()));
         user.setJobTitle(updateRequest.getJobTitle());
 
         User updatedUser = userRepository.save(user);
+        evictCachedUserAfterCommit(updatedUser.getId());
         
         log.info("Profile updated successfully for user ID: {}", updatedUser.getId());
         
@@ -70,7 +86,7 @@ public class UserService {
     }
 
     /**
-     * Change current authenticated user's password.
+     * Change current authenticated user's password and revoke all of the user's tokens.
      *
      * @param changePasswordRequest the password change request
      * @throws IllegalArgumentException if current password is incorrect or passwords don't match
@@ -81,28 +97,55 @@ public class UserService {
         
         log.info("Password change request for user ID: {}", user.getId());
 
+        // Verify new password and confirmation match before spending any hashing time
+        if (!changePasswordRequest.getNewPassword().equals(changePasswordRequest.getConfirmPassword())) {
+            throw new IllegalArgumentException("New password and confirmation do not match");
+        }
+
         // Verify current password
         if (!passwordEncoder.matches(changePasswordRequest.getCurrentPassword(), user.getPassword())) {
             throw new IllegalArgumentException("Current password is incorrect");
         }
 
-        // Verify new password and confirmation match
-        if (!changePasswordRequest.getNewPassword().equals(changePasswordRequest.getConfirmPassword())) {
-            throw new IllegalArgumentException("New password and confirmation do not match");
-        }
-
         // Check that new password is different from current password
-        if (passwordEncoder.matches(changePasswordRequest.getNewPassword(), user.getPassword())) {
+        if (changePasswordRequest.getNewPassword().equals(changePasswordRequest.getCurrentPassword())) {
             throw new IllegalArgumentException("New password must be different from current password");
         }
 
         // Update password with encryption
         user.setPassword(passwordEncoder.encode(changePasswordRequest.getNewPassword()));
         userRepository.save(user);
+        evictCachedUserAfterCommit(user.getId());
+
+        // Sign out every session, including the one that changed the password
+        tokenRevocationService.revokeAll(user.getId());
         
         log.info("Password changed successfully for user ID: {}", user.getId());
     }
 
+    /**
+     * Re-hash a user's password if it is stored with an outdated algorithm or cost.
+     * Hashing and the update happen in the background, so the caller is not delayed; when the
+     * hashing pool is busy the upgrade is skipped and tried again on the next login.
+     *
+     * @param user the user who just authenticated
+     * @param rawPassword the password they authenticated with
+     */
+    public void upgradePasswordHashInBackground(User user, String rawPassword) {
+        String outdatedHash = user.getPassword();
+        if (!passwordEncoder.upgradeEncoding(outdatedHash)) {
+            return;
+        }
+
+        Long userId = user.getId();
+        passwordEncoder.encodeInBackground(rawPassword)
+                .thenAcceptAsync(upgradedHash -> replacePasswordHash(userId, outdatedHash, upgradedHash), applicationTaskExecutor)
+                .exceptionally(ex -> {
+                    log.warn("Password hash upgrade skipped for user ID: {}: {}", userId, ex.getMessage());
+                    return null;
+                });
+    }
+
     /**
      * Get the current authenticated user.
      *
@@ -110,11 +153,73 @@ public class UserService {
      * @throws ResourceNotFoundException if user not found
      */
     public User getCurrentUser() {
+        Long userId = getCurrentUserId();
+        
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
+    }
+
+    /**
+     * Get a reference to the current authenticated user without loading it,
+     * for use as an association target.
+     *
+     * @return the current user reference
+     */
+    public User getCurrentUserReference() {
+        return userRepository.getReferenceById(getCurrentUserId());
+    }
+
+    /**
+     * Get the ID of the current authenticated user from the verified token claims.
+     *
+     * @return the current user ID
+     */
+    public Long getCurrentUserId() {
+        return getCurrentPrincipal().id();
+    }
+
+    /**
+     * Get the principal of the current authenticated user.
+     *
+     * @return the authenticated user
+     */
+    private AuthenticatedUser getCurrentPrincipal() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
         
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
+        return (AuthenticatedUser) authentication.getPrincipal();
+    }
+
+    /**
+     * Store an upgraded password hash, unless the password was changed since it was read.
+     *
+     * @param userId the user ID
+     * @param outdatedHash the hash the upgrade was computed against
+     * @param upgradedHash the new hash of the same password
+     */
+    private void replacePasswordHash(Long userId, String outdatedHash, String upgradedHash) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                userRepository.findById(userId)
+                        .filter(user -> outdatedHash.equals(user.getPassword()))
+                        .ifPresent(user -> {
+                            user.setPassword(upgradedHash);
+                            evictCachedUserAfterCommit(userId);
+                            log.info("Password hash upgraded for user ID: {}", userId);
+                        }));
+    }
+
+    /**
+     * Evict the user from the second-level cache once the current transaction commits,
+     * so the next lookup reads the committed row.
+     *
+     * @param userId the user ID
+     */
+    private void evictCachedUserAfterCommit(Long userId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(User.class, userId);
+            }
+        });
     }
 
     /**
@@ -129,7 +234,7 @@ public class UserService {
                 .name(user.getName())
                 .email(user.getEmail())
                 .experienceYears(user.getExperienceYears())
-                .technologyStack(user.getTechnologyStack())
+                .technologyStack(technologyTagService.getNames(user.getTagIds()))
                 .jobTitle(user.getJobTitle())
                 .build();
     }
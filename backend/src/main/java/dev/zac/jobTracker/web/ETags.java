@@ -0,0 +1,86 @@
+package dev.zac.jobTracker.web;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.zac.jobTracker.dto.jobApplication.JobApplicationDto;
+import dev.zac.jobTracker.exceptions.PreconditionFailedException;
+
+/**
+ * Entity tags for job application resources.
+ * A single application is tagged with its ID and optimistic locking version, a collection
+ * read with the user's collection version, so neither needs the response body to be hashed.
+ */
+public final class ETags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETags() {
+    }
+
+    /**
+     * Build the entity tag of a job application.
+     *
+     * @param application the job application
+     * @return the quoted entity tag
+     */
+    public static String forApplication(JobApplicationDto application) {
+        return forApplication(application.getId(), application.getVersion());
+    }
+
+    /**
+     * Build the entity tag of a job application from its ID and version.
+     *
+     * @param applicationId the application ID
+     * @param version the application version
+     * @return the quoted entity tag
+     */
+    public static String forApplication(Long applicationId, long version) {
+        return "\"" + applicationId + "-" + version + "\"";
+    }
+
+    /**
+     * Build the entity tag of any read of a user's job application collection.
+     * The tag is weak: collection reads are only ever revalidated, never written with If-Match,
+     * and Tomcat does not compress responses carrying a strong tag.
+     *
+     * @param collectionVersion the user's collection version
+     * @return the weak entity tag
+     */
+    public static String forCollection(long collectionVersion) {
+        return WEAK_PREFIX + "\"c" + collectionVersion + "\"";
+    }
+
+    /**
+     * Read the application versions an If-Match header allows a write against.
+     * Weak tags never match, as If-Match requires strong comparison.
+     *
+     * @param ifMatch the If-Match header value, may be null
+     * @param applicationId the ID of the application being written
+     * @return the allowed versions, or null if the write is unconditional
+     * @throws PreconditionFailedException if no tag in the header can match the application
+     */
+    public static List<Long> parseIfMatch(String ifMatch, Long applicationId) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String prefix = "\"" + applicationId + "-";
+        List<Long> versions = new ArrayList<>();
+        for (String tag : ifMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith(WEAK_PREFIX) || !tag.startsWith(prefix) || !tag.endsWith("\"")) {
+                continue;
+            }
+            try {
+                versions.add(Long.parseLong(tag.substring(prefix.length(), tag.length() - 1)));
+            } catch (NumberFormatException ex) {
+                // Not one of our tags, it cannot match
+            }
+        }
+        if (versions.isEmpty()) {
+            throw new PreconditionFailedException("Job application " + applicationId + " does not match If-Match");
+        }
+        return versions;
+    }
+}
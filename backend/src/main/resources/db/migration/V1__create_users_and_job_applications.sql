@@ -0,0 +1,34 @@
+-- Baseline schema, matching what Hibernate previously generated with ddl-auto.
+-- Databases created before migrations were introduced are baselined at this version.
+
+CREATE TABLE IF NOT EXISTS users (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name             VARCHAR(255) NOT NULL,
+    email            VARCHAR(255) NOT NULL UNIQUE,
+    password         VARCHAR(255) NOT NULL,
+    experience_years INTEGER,
+    technology_stack JSONB,
+    job_title        VARCHAR(255),
+    role             VARCHAR(255) NOT NULL CHECK (role IN ('USER', 'ADMIN')),
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS job_applications (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id             BIGINT NOT NULL,
+    company             VARCHAR(255) NOT NULL,
+    job_title           VARCHAR(255) NOT NULL,
+    date_applied        DATE NOT NULL,
+    status              VARCHAR(255) NOT NULL CHECK (status IN (
+                            'APPLIED', 'PHONE_INTERVIEW', 'TECHNICAL_INTERVIEW', 'BEHAVIOURAL_INTERVIEW',
+                            'ON_SITE_INTERVIEW', 'FINAL_INTERVIEW', 'OFFER_RECEIVED', 'OFFER_ACCEPTED',
+                            'OFFER_REJECTED', 'REJECTED', 'WITHDRAWN', 'NO_RESPONSE')),
+    last_response_date  DATE,
+    technology_stack    JSONB,
+    required_experience INTEGER,
+    notes               TEXT,
+    created_at          TIMESTAMP(6) NOT NULL,
+    updated_at          TIMESTAMP(6),
+    CONSTRAINT fk_job_applications_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
@@ -0,0 +1,13 @@
+-- Indexes matching each JobApplicationRepository finder.
+
+-- findByUserId, findByUserIdAndDateAppliedBetween, the default dateApplied sort and keyset scrolling
+CREATE INDEX IF NOT EXISTS idx_job_applications_user_date_applied
+    ON job_applications (user_id, date_applied DESC, id DESC);
+
+-- findByUserIdAndStatus, countByUserIdAndStatus and getApplicationStatsByUser (index-only GROUP BY status)
+CREATE INDEX IF NOT EXISTS idx_job_applications_user_status_date_applied
+    ON job_applications (user_id, status, date_applied DESC, id DESC);
+
+-- Emails are unique regardless of case
+CREATE UNIQUE INDEX IF NOT EXISTS uq_users_email_lower
+    ON users (lower(email));
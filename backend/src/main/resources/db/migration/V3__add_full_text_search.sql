@@ -0,0 +1,25 @@
+-- Full-text search over company, job title, technology stack and notes.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+-- Maintained by PostgreSQL on every insert and update, weighted so that
+-- company and job title matches rank above technology stack and notes
+ALTER TABLE job_applications
+    ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(company, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(job_title, '')), 'A')
+        || setweight(jsonb_to_tsvector('english', coalesce(technology_stack, '[]'::jsonb), '["string"]'), 'B')
+        || setweight(to_tsvector('english', coalesce(notes, '')), 'C')
+    ) STORED;
+
+-- Word matches scoped to a single user
+CREATE INDEX IF NOT EXISTS idx_job_applications_user_search_vector
+    ON job_applications USING GIN (user_id, search_vector);
+
+-- Partial word matches on company and job title, e.g. "goog" or "eng"
+CREATE INDEX IF NOT EXISTS idx_job_applications_user_company_trgm
+    ON job_applications USING GIN (user_id, company gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_job_applications_user_job_title_trgm
+    ON job_applications USING GIN (user_id, job_title gin_trgm_ops);
@@ -0,0 +1,16 @@
+-- Per-user application counts by status, maintained by the application on every
+-- create, status change and delete so statistics never scan job_applications.
+
+CREATE TABLE IF NOT EXISTS job_application_status_counts (
+    user_id           BIGINT NOT NULL,
+    status            VARCHAR(255) NOT NULL,
+    application_count BIGINT NOT NULL,
+    PRIMARY KEY (user_id, status),
+    CONSTRAINT fk_job_application_status_counts_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+INSERT INTO job_application_status_counts (user_id, status, application_count)
+SELECT user_id, status, count(*)
+FROM job_applications
+GROUP BY user_id, status
+ON CONFLICT (user_id, status) DO UPDATE SET application_count = EXCLUDED.application_count;
@@ -0,0 +1,11 @@
+-- Job application IDs come from a sequence Hibernate allocates in blocks of 50 (pooled-lo),
+-- which lets it batch inserts. IDENTITY columns force one round trip per insert.
+
+ALTER TABLE job_applications ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS job_applications_seq INCREMENT BY 50 OWNED BY job_applications.id;
+
+SELECT setval('job_applications_seq', coalesce((SELECT max(id) FROM job_applications), 0) + 1, false);
+
+-- Rows inserted outside Hibernate take a whole block, so they never collide with allocated IDs
+ALTER TABLE job_applications ALTER COLUMN id SET DEFAULT nextval('job_applications_seq');
@@ -0,0 +1,23 @@
+-- Revoked JWTs and per-user revocation cut-offs. Every node keeps these in memory and reloads
+-- them from here on startup; rows are deleted once every token they cover has expired anyway.
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    token_id   UUID PRIMARY KEY,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    revoked_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
+
+-- Tokens of the user issued before revoked_before are rejected
+CREATE TABLE IF NOT EXISTS user_token_revocations (
+    user_id        BIGINT PRIMARY KEY,
+    revoked_before TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    expires_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    revoked_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT fk_user_token_revocations_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_token_revocations_expires_at ON user_token_revocations (expires_at);
+CREATE INDEX IF NOT EXISTS idx_user_token_revocations_revoked_at ON user_token_revocations (revoked_at);
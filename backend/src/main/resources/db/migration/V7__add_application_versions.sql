@@ -0,0 +1,19 @@
+-- Optimistic locking version of each application, and a version of each user's whole
+-- collection that every create, update and delete moves forward. Collection versions come
+-- from one sequence, so no two users or states ever share a value and it can be used as an ETag.
+-- Adding a column with a constant default does not rewrite the table.
+
+ALTER TABLE job_applications ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+CREATE SEQUENCE IF NOT EXISTS job_application_collection_version_seq;
+
+CREATE TABLE IF NOT EXISTS job_application_collection_versions (
+    user_id BIGINT PRIMARY KEY,
+    version BIGINT NOT NULL,
+    CONSTRAINT fk_job_application_collection_versions_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+INSERT INTO job_application_collection_versions (user_id, version)
+SELECT id, nextval('job_application_collection_version_seq')
+FROM users
+ON CONFLICT (user_id) DO NOTHING;
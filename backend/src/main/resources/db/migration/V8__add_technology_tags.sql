@@ -0,0 +1,92 @@
+-- Technology tags interned into a dictionary. Applications and users keep their technology
+-- stack only as an array of tag IDs, in stack order, so "applications using X" is a GIN index
+-- lookup and each name is stored once. The application resolves names to IDs in batches
+-- through TechnologyTagService, which also turns the IDs back into names for responses.
+
+CREATE TABLE IF NOT EXISTS technology_tags (
+    id   SERIAL PRIMARY KEY,
+    name TEXT NOT NULL,
+    CONSTRAINT uq_technology_tags_name UNIQUE (name)
+);
+
+ALTER TABLE job_applications
+    ADD COLUMN IF NOT EXISTS tag_ids INTEGER[] NOT NULL DEFAULT '{}';
+
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS tag_ids INTEGER[] NOT NULL DEFAULT '{}';
+
+-- Move the existing JSONB stacks over. Names are trimmed, and blanks and repeats are dropped.
+CREATE FUNCTION pg_temp.technology_stack_names(stack JSONB) RETURNS TABLE (name TEXT, ordinal BIGINT) AS $$
+    SELECT btrim(stack_element.element), min(stack_element.ordinal)
+    FROM jsonb_array_elements_text(CASE WHEN jsonb_typeof(stack) = 'array' THEN stack ELSE '[]' END)
+        WITH ORDINALITY AS stack_element(element, ordinal)
+    WHERE btrim(stack_element.element) <> ''
+    GROUP BY btrim(stack_element.element)
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE FUNCTION pg_temp.technology_tag_ids(stack JSONB) RETURNS INTEGER[] AS $$
+    SELECT ARRAY(
+        SELECT tag.id
+        FROM pg_temp.technology_stack_names(stack) stack_name
+        JOIN technology_tags tag ON tag.name = stack_name.name
+        ORDER BY stack_name.ordinal
+    )
+$$ LANGUAGE sql STABLE;
+
+INSERT INTO technology_tags (name)
+SELECT DISTINCT stack_name.name
+FROM (
+    SELECT technology_stack FROM job_applications WHERE technology_stack IS NOT NULL
+    UNION
+    SELECT technology_stack FROM users WHERE technology_stack IS NOT NULL
+) stack
+CROSS JOIN pg_temp.technology_stack_names(stack.technology_stack) stack_name
+ON CONFLICT (name) DO NOTHING;
+
+UPDATE job_applications
+SET tag_ids = pg_temp.technology_tag_ids(technology_stack)
+WHERE jsonb_typeof(technology_stack) = 'array' AND technology_stack <> '[]'::jsonb;
+
+UPDATE users
+SET tag_ids = pg_temp.technology_tag_ids(technology_stack)
+WHERE jsonb_typeof(technology_stack) = 'array' AND technology_stack <> '[]'::jsonb;
+
+-- The search vector can no longer be a generated column, since the tag names are in another
+-- table. A trigger keeps it current instead; it only runs when a searched column is written
+-- and only looks up tag names for applications that have tags.
+ALTER TABLE job_applications DROP COLUMN search_vector;
+ALTER TABLE job_applications DROP COLUMN technology_stack;
+ALTER TABLE users DROP COLUMN technology_stack;
+
+ALTER TABLE job_applications ADD COLUMN search_vector TSVECTOR;
+
+CREATE OR REPLACE FUNCTION job_applications_set_search_vector() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector :=
+        setweight(to_tsvector('english', coalesce(NEW.company, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(NEW.job_title, '')), 'A')
+        || CASE WHEN cardinality(NEW.tag_ids) = 0 THEN ''::tsvector ELSE setweight(to_tsvector('english',
+            array_to_string(ARRAY(SELECT tag.name FROM technology_tags tag WHERE tag.id = ANY(NEW.tag_ids)), ' ')), 'B') END
+        || setweight(to_tsvector('english', coalesce(NEW.notes, '')), 'C');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_job_applications_search_vector ON job_applications;
+CREATE TRIGGER trg_job_applications_search_vector
+    BEFORE INSERT OR UPDATE OF company, job_title, notes, tag_ids ON job_applications
+    FOR EACH ROW EXECUTE FUNCTION job_applications_set_search_vector();
+
+UPDATE job_applications SET tag_ids = tag_ids;
+
+-- Word matches scoped to a single user, as before
+CREATE INDEX IF NOT EXISTS idx_job_applications_user_search_vector
+    ON job_applications USING GIN (user_id, search_vector);
+
+-- findByUserIdAndTagIdsContaining: tag containment scoped to a single user
+CREATE INDEX IF NOT EXISTS idx_job_applications_user_tag_ids
+    ON job_applications USING GIN (user_id, tag_ids);
+
+-- countTechnologyTagsByUserId: reads a user's tag arrays with an index-only scan
+CREATE INDEX IF NOT EXISTS idx_job_applications_user_id_tag_ids
+    ON job_applications (user_id) INCLUDE (tag_ids);
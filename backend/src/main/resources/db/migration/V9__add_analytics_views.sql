@@ -0,0 +1,27 @@
+-- Per-user analytics precomputed into materialized views, refreshed concurrently on a
+-- schedule so reads are index lookups instead of aggregates over job_applications.
+-- The unique indexes are what REFRESH MATERIALIZED VIEW CONCURRENTLY requires.
+
+-- Median days from applying to the last response, ignoring responses dated before the application
+CREATE MATERIALIZED VIEW IF NOT EXISTS job_application_response_times AS
+SELECT user_id,
+       count(*) FILTER (WHERE last_response_date >= date_applied) AS responded_applications,
+       percentile_cont(0.5) WITHIN GROUP (ORDER BY last_response_date - date_applied)
+           FILTER (WHERE last_response_date >= date_applied) AS median_response_days,
+       LOCALTIMESTAMP AS refreshed_at
+FROM job_applications
+GROUP BY user_id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_job_application_response_times_user_id
+    ON job_application_response_times (user_id);
+
+-- Applications per ISO week (starting Monday) of the application date
+CREATE MATERIALIZED VIEW IF NOT EXISTS job_application_weekly_counts AS
+SELECT user_id,
+       CAST(date_trunc('week', date_applied) AS DATE) AS week_start,
+       count(*) AS applications
+FROM job_applications
+GROUP BY user_id, date_trunc('week', date_applied);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_job_application_weekly_counts_user_id_week_start
+    ON job_application_weekly_counts (user_id, week_start);
@@ -0,0 +1,32 @@
+package dev.zac.jobTracker.enums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import dev.zac.jobTracker.dto.jobApplication.JobApplicationDto;
+
+class JobApplicationFieldTests {
+
+	@Test
+	void parseReadsJsonNamesAndAlwaysIncludesTheId() {
+		assertThat(JobApplicationField.parse("company, job_title,status"))
+				.containsExactly(JobApplicationField.ID, JobApplicationField.COMPANY, JobApplicationField.JOB_TITLE,
+						JobApplicationField.STATUS);
+		assertThat(JobApplicationField.parse(null)).isNull();
+		assertThat(JobApplicationField.parse(" ")).isNull();
+		assertThatThrownBy(() -> JobApplicationField.parse("company,jobTitle"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Unknown field: jobTitle");
+	}
+
+	@Test
+	void setFillsOnlyThatField() {
+		JobApplicationDto dto = new JobApplicationDto();
+
+		JobApplicationField.COMPANY.set(dto, "Acme");
+
+		assertThat(dto).isEqualTo(JobApplicationDto.builder().company("Acme").build());
+	}
+}
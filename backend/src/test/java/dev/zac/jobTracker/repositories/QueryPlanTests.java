@@ -0,0 +1,272 @@
+package dev.zac.jobTracker.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.flywaydb.core.Flyway;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import dev.zac.jobTracker.enums.JobApplicationField;
+import dev.zac.jobTracker.enums.JobApplicationStatus;
+
+/**
+ * Runs each repository finder against a migrated and seeded database, captures the SQL
+ * Hibernate sends for it, and fails if the plan of any of those statements falls back to a
+ * sequential scan. Statements are planned generically, as the driver runs them once it
+ * switches to server-side prepared statements, so the plan does not depend on the sample
+ * parameter values.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(showSql = false, properties = {
+		"spring.jpa.hibernate.ddl-auto=validate",
+		"spring.jpa.properties.hibernate.format_sql=false",
+		"spring.jpa.properties.hibernate.use_sql_comments=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryPlanTests {
+
+	private static final Long USER_ID = 42L;
+	private static final Pageable PAGE = PageRequest.of(2, 20, Sort.by("dateApplied"));
+	private static final LocalDate START_DATE = LocalDate.of(2021, 1, 1);
+	private static final LocalDate END_DATE = LocalDate.of(2022, 6, 30);
+	private static final LocalDate KEYSET_DATE = LocalDate.of(2022, 1, 1);
+	private static final Long KEYSET_ID = 100000L;
+	private static final Limit KEYSET_LIMIT = Limit.of(21);
+
+	@Container
+	static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15.3");
+
+	static final CapturingStatementInspector statements = new CapturingStatementInspector();
+
+	@Autowired
+	private JobApplicationRepository jobApplicationRepository;
+
+	@Autowired
+	private ApplicationWeeklyCountRepository applicationWeeklyCountRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@DynamicPropertySource
+	static void datasourceProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+		registry.add("spring.datasource.driver-class-name", postgres::getDriverClassName);
+	}
+
+	@BeforeAll
+	static void migrateAndSeed() throws SQLException {
+		Flyway.configure()
+				.dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+				.load()
+				.migrate();
+
+		try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+			statement.execute("""
+					INSERT INTO users (name, email, password, role, created_at)
+					SELECT 'User ' || g, 'user' || g || '@example.com', 'x', 'USER', now()
+					FROM generate_series(1, 20000) g
+					""");
+			statement.execute("INSERT INTO technology_tags (name) VALUES ('Java'), ('Kafka')");
+			statement.execute("""
+					INSERT INTO job_applications (user_id, company, job_title, date_applied, status,
+					                              tag_ids, notes, created_at, updated_at)
+					SELECT 1 + (g % 500),
+					       'Company ' || (g % 997),
+					       'Engineer ' || (g % 13),
+					       DATE '2020-01-01' + (g % 1500),
+					       (ARRAY['APPLIED', 'PHONE_INTERVIEW', 'TECHNICAL_INTERVIEW', 'BEHAVIOURAL_INTERVIEW',
+					              'ON_SITE_INTERVIEW', 'FINAL_INTERVIEW', 'OFFER_RECEIVED', 'OFFER_ACCEPTED',
+					              'OFFER_REJECTED', 'REJECTED', 'WITHDRAWN', 'NO_RESPONSE'])[1 + (g % 12)],
+					       ARRAY[1, 2],
+					       repeat('notes ', 50),
+					       now(), now()
+					FROM generate_series(1, 200000) g
+					""");
+			statement.execute("REFRESH MATERIALIZED VIEW job_application_response_times");
+			statement.execute("REFRESH MATERIALIZED VIEW job_application_weekly_counts");
+			statement.execute("ANALYZE");
+		}
+	}
+
+	static Stream<Arguments> finders() {
+		return Stream.of(
+				finder("findByUserId", test -> test.jobApplicationRepository.findByUserId(USER_ID, PAGE)),
+				finder("findByUserId entities", test -> test.jobApplicationRepository.findByUserId(USER_ID)),
+				finder("streamDtosByUserId", test -> {
+					try (Stream<?> applications = test.jobApplicationRepository.streamDtosByUserId(USER_ID)) {
+						applications.findFirst();
+					}
+				}),
+				finder("findByIdAndUserId", test -> test.jobApplicationRepository.findByIdAndUserId(1042L, USER_ID)),
+				finder("findStatusForUpdate", test -> test.jobApplicationRepository.findStatusForUpdate(1042L, USER_ID)),
+				finder("findVersionByIdAndUserId",
+						test -> test.jobApplicationRepository.findVersionByIdAndUserId(1042L, USER_ID)),
+				finder("findDtoByIdAndUserId", test -> test.jobApplicationRepository.findDtoByIdAndUserId(1042L, USER_ID)),
+				finder("findDtosByUserIdAndIdIn",
+						test -> test.jobApplicationRepository.findDtosByUserIdAndIdIn(USER_ID, List.of(1042L, 1542L))),
+				finder("findByUserIdAndStatus", test -> test.jobApplicationRepository.findByUserIdAndStatus(
+						USER_ID, JobApplicationStatus.APPLIED, PAGE)),
+				finder("findByUserIdAndCompanyContainingIgnoreCase", test -> test.jobApplicationRepository
+						.findByUserIdAndCompanyContainingIgnoreCase(USER_ID, "company 4", PAGE)),
+				finder("findByUserIdAndTagIdsContaining", test -> test.jobApplicationRepository
+						.findByUserIdAndTagIdsContaining(USER_ID, new Integer[] {2}, PAGE)),
+				finder("countTechnologyTagsByUserId",
+						test -> test.jobApplicationRepository.countTechnologyTagsByUserId(USER_ID)),
+				finder("findByUserIdAndDateAppliedBetween", test -> test.jobApplicationRepository
+						.findByUserIdAndDateAppliedBetween(USER_ID, START_DATE, END_DATE, PAGE)),
+				finder("findFieldsByUserId", test -> test.jobApplicationRepository.findFieldsByUserId(USER_ID,
+						Set.of(JobApplicationField.COMPANY, JobApplicationField.STATUS),
+						(root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("status"),
+								JobApplicationStatus.APPLIED),
+						PAGE)),
+				finder("findKeysetFirstByUserId",
+						test -> test.jobApplicationRepository.findKeysetFirstByUserId(USER_ID, KEYSET_LIMIT)),
+				finder("findKeysetAfterByUserId", test -> test.jobApplicationRepository.findKeysetAfterByUserId(
+						USER_ID, KEYSET_DATE, KEYSET_ID, KEYSET_LIMIT)),
+				finder("findKeysetFirstByUserIdAndStatus", test -> test.jobApplicationRepository
+						.findKeysetFirstByUserIdAndStatus(USER_ID, JobApplicationStatus.REJECTED, KEYSET_LIMIT)),
+				finder("findKeysetAfterByUserIdAndStatus", test -> test.jobApplicationRepository
+						.findKeysetAfterByUserIdAndStatus(USER_ID, JobApplicationStatus.REJECTED,
+								KEYSET_DATE, KEYSET_ID, KEYSET_LIMIT)),
+				finder("findKeysetFirstByUserIdAndDateAppliedBetween", test -> test.jobApplicationRepository
+						.findKeysetFirstByUserIdAndDateAppliedBetween(USER_ID, START_DATE, END_DATE, KEYSET_LIMIT)),
+				finder("findKeysetAfterByUserIdAndDateAppliedBetween", test -> test.jobApplicationRepository
+						.findKeysetAfterByUserIdAndDateAppliedBetween(USER_ID, START_DATE, END_DATE,
+								KEYSET_DATE, KEYSET_ID, KEYSET_LIMIT)),
+				finder("searchFirstByUserId", test -> test.jobApplicationRepository.searchFirstByUserId(
+						USER_ID, "company 4", "%company 4%", 21)),
+				finder("searchAfterByUserId", test -> test.jobApplicationRepository.searchAfterByUserId(
+						USER_ID, "company 4", "%company 4%", 0.5f, KEYSET_ID, 21)),
+				finder("countByUserIdAndStatus", test -> test.jobApplicationRepository.countByUserIdAndStatus(
+						USER_ID, JobApplicationStatus.APPLIED)),
+				finder("getApplicationStatsByUser",
+						test -> test.jobApplicationRepository.getApplicationStatsByUser(USER_ID)),
+				finder("findByUserIdAndWeekStartBetween", test -> test.applicationWeeklyCountRepository
+						.findByUserIdAndWeekStartBetween(USER_ID, LocalDate.of(2021, 1, 4), LocalDate.of(2021, 12, 27))),
+				finder("findByEmail", test -> test.userRepository.findByEmail("user42@example.com")),
+				finder("existsByEmail", test -> test.userRepository.existsByEmail("user42@example.com"))
+		);
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("finders")
+	void finderDoesNotSequentiallyScan(String finder, Consumer<QueryPlanTests> call) throws SQLException {
+		statements.clear();
+		call.accept(this);
+		List<String> sent = statements.captured();
+
+		assertThat(sent).as("SQL sent by %s", finder).isNotEmpty();
+		for (String sql : sent) {
+			String plan = explain(sql);
+			assertThat(plan)
+					.as("Plan for %s:%n%s%n%s", finder, sql, plan)
+					.doesNotContain("Seq Scan");
+		}
+	}
+
+	private static Arguments finder(String name, Consumer<QueryPlanTests> call) {
+		return Arguments.of(name, call);
+	}
+
+	/**
+	 * Explain the generic plan of a statement, with its JDBC placeholders turned into
+	 * numbered parameters of a prepared statement.
+	 */
+	private static String explain(String sql) throws SQLException {
+		StringBuilder numbered = new StringBuilder();
+		int parameters = 0;
+		boolean quoted = false;
+		for (char c : sql.toCharArray()) {
+			if (c == '\'') {
+				quoted = !quoted;
+			}
+			if (c == '?' && !quoted) {
+				numbered.append('$').append(++parameters);
+			} else {
+				numbered.append(c);
+			}
+		}
+
+		try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+			statement.execute("SET plan_cache_mode = force_generic_plan");
+			statement.execute("PREPARE finder AS " + numbered);
+			String arguments = parameters == 0 ? "" : "(" + String.join(", ", Collections.nCopies(parameters, "NULL")) + ")";
+			try (ResultSet resultSet = statement.executeQuery("EXPLAIN EXECUTE finder" + arguments)) {
+				StringBuilder plan = new StringBuilder();
+				while (resultSet.next()) {
+					plan.append(resultSet.getString(1)).append(System.lineSeparator());
+				}
+				return plan.toString();
+			}
+		}
+	}
+
+	private static Connection connect() throws SQLException {
+		return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+	}
+
+	/**
+	 * Records the SQL of every statement Hibernate prepares, leaving it unchanged.
+	 */
+	static class CapturingStatementInspector implements StatementInspector {
+
+		private final List<String> captured = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public String inspect(String sql) {
+			captured.add(sql);
+			return sql;
+		}
+
+		List<String> captured() {
+			return List.copyOf(captured);
+		}
+
+		void clear() {
+			captured.clear();
+		}
+	}
+
+	@TestConfiguration
+	static class StatementCaptureConfiguration {
+
+		@Bean
+		HibernatePropertiesCustomizer statementInspector() {
+			return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statements);
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package dev.zac.jobTracker.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import dev.zac.jobTracker.exceptions.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void matchesLegacyHashesAndReportsThemForUpgrade() {
+		BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(5);
+		DelegatingPasswordEncoder delegate = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+		delegate.setDefaultPasswordEncoderForMatches(bcrypt);
+
+		try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, 1, 1, meterRegistry)) {
+			String legacy = new BCryptPasswordEncoder(5).encode("password123");
+			String cheaper = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("password123");
+			String current = encoder.encode("password123");
+
+			assertThat(encoder.matches("password123", legacy)).isTrue();
+			assertThat(encoder.matches("password123", current)).isTrue();
+			assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+			assertThat(encoder.upgradeEncoding(cheaper)).isTrue();
+			assertThat(encoder.upgradeEncoding(current)).isFalse();
+			assertThat(meterRegistry.get("jobtracker.password.hash").tag("operation", "matches").timer().count())
+					.isEqualTo(2);
+		}
+	}
+
+	@Test
+	void rejectsWhenThreadAndQueueAreTaken() throws Exception {
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordEncoder blocking = new PasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				running.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				return rawPassword.toString();
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				return rawPassword.toString().equals(encodedPassword);
+			}
+		};
+
+		try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1, meterRegistry)) {
+			CompletableFuture<String> first = encoder.encodeInBackground("first");
+			running.await();
+			CompletableFuture<String> queued = encoder.encodeInBackground("queued");
+
+			assertThat(encoder.encodeInBackground("rejected")).isCompletedExceptionally();
+			assertThatThrownBy(() -> encoder.matches("a", "a")).isInstanceOf(ServiceBusyException.class);
+			assertThat(meterRegistry.get("jobtracker.password.hash.queued").gauge().value()).isEqualTo(1);
+
+			release.countDown();
+			assertThat(first.get()).isEqualTo("first");
+			assertThat(queued.get()).isEqualTo("queued");
+			assertThat(meterRegistry.get("jobtracker.password.hash.rejected").counter().count()).isEqualTo(2);
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package dev.zac.jobTracker.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import dev.zac.jobTracker.config.JwtProperties;
+import dev.zac.jobTracker.entities.User;
+import io.jsonwebtoken.JwtException;
+
+class JwtServiceTests {
+
+	private static final String SECRET = "dGhpcy1pcy1hLXRlc3Qtc2VjcmV0LXRoYXQtaXMtbG9uZy1lbm91Z2gtZm9yLWhzMjU2";
+
+	private final JwtService jwtService = new JwtService(new JwtProperties(SECRET, 60_000, 100));
+
+	private final User user = User.builder().id(42L).email("jane@example.com").build();
+
+	@Test
+	void verifyReturnsSubjectAndExpiry() {
+		String token = jwtService.generateToken(user);
+
+		VerifiedToken verified = jwtService.verify(token);
+
+		assertThat(verified.subject()).isEqualTo("jane@example.com");
+		assertThat(verified.userId()).isEqualTo(42L);
+		assertThat(verified.role()).isEqualTo("USER");
+		assertThat(verified.tokenId()).isNotNull().isNotEqualTo(jwtService.verify(jwtService.generateToken(user)).tokenId());
+		assertThat(verified.expiresAt()).isAfter(verified.issuedAt());
+		assertThat(jwtService.verify(token)).isSameAs(verified);
+	}
+
+	@Test
+	void isTokenValidRejectsOtherUser() {
+		String token = jwtService.generateToken(user);
+
+		assertThat(jwtService.isTokenValid(token, user)).isTrue();
+		assertThat(jwtService.isTokenValid(token, User.builder().email("other@example.com").build())).isFalse();
+	}
+
+	@Test
+	void verifyRejectsTamperedAndExpiredTokens() {
+		String token = jwtService.generateToken(user);
+		JwtService expiring = new JwtService(new JwtProperties(SECRET, -60_000, 100));
+		String expired = expiring.generateToken(user);
+
+		assertThatThrownBy(() -> jwtService.verify(token + "x")).isInstanceOf(JwtException.class);
+		assertThatThrownBy(() -> expiring.verify(expired)).isInstanceOf(JwtException.class);
+	}
+}
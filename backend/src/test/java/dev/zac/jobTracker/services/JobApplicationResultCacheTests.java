@@ -0,0 +1,78 @@
+package dev.zac.jobTracker.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import dev.zac.jobTracker.config.ResultCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JobApplicationResultCacheTests {
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@AfterEach
+	void shutDownExecutor() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void reusesResultsUntilTheCollectionVersionChanges() {
+		// Refreshes run on the calling thread, so no read can time out and be served stale
+		JobApplicationResultCache cache = cache(Runnable::run);
+		AtomicInteger queries = new AtomicInteger();
+
+		assertThat(cache.get(1L, 1, "all", List.of(0), queries::incrementAndGet)).isEqualTo(1);
+		assertThat(cache.get(1L, 1, "all", List.of(0), queries::incrementAndGet)).isEqualTo(1);
+		assertThat(cache.get(1L, 1, "all", List.of(1), queries::incrementAndGet)).isEqualTo(2);
+		assertThat(cache.get(2L, 1, "all", List.of(0), queries::incrementAndGet)).isEqualTo(3);
+
+		assertThat(cache.get(1L, 2, "all", List.of(0), queries::incrementAndGet)).isEqualTo(4);
+		// Any other version is outdated, including an older one
+		assertThat(cache.get(1L, 1, "all", List.of(0), queries::incrementAndGet)).isEqualTo(5);
+		assertThat(meterRegistry.get("jobtracker.result.cache.requests").tag("result", "hit").counter().count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	void servesThePreviousResultWhileASlowRefreshRuns() throws Exception {
+		JobApplicationResultCache cache = cache(executor);
+		CountDownLatch release = new CountDownLatch(1);
+		cache.get(1L, 1, "statistics", List.of(), () -> "old");
+
+		String served = cache.get(1L, 2, "statistics", List.of(), () -> {
+			try {
+				release.await();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return "new";
+		});
+		assertThat(served).isEqualTo("old");
+		assertThat(meterRegistry.get("jobtracker.result.cache.requests").tag("result", "stale").counter().count())
+				.isEqualTo(1);
+
+		release.countDown();
+		executor.submit(() -> { }).get();
+		assertThat(cache.get(1L, 2, "statistics", List.<Object>of(), () -> "unused")).isEqualTo("new");
+	}
+
+	private JobApplicationResultCache cache(Executor refreshExecutor) {
+		return new JobApplicationResultCache(mock(PlatformTransactionManager.class), refreshExecutor,
+				new ResultCacheProperties(true, DataSize.ofMegabytes(1), Duration.ofMillis(50), Duration.ofMinutes(1)),
+				meterRegistry);
+	}
+}
@@ -0,0 +1,31 @@
+package dev.zac.jobTracker.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import dev.zac.jobTracker.dto.jobApplication.JobApplicationDto;
+import dev.zac.jobTracker.exceptions.PreconditionFailedException;
+
+class ETagsTests {
+
+	@Test
+	void parseIfMatchReadsVersionsOfTheApplication() {
+		String eTag = ETags.forApplication(JobApplicationDto.builder().id(7L).version(3L).build());
+
+		assertThat(eTag).isEqualTo("\"7-3\"");
+		assertThat(ETags.parseIfMatch(eTag, 7L)).containsExactly(3L);
+		assertThat(ETags.parseIfMatch("\"8-1\", \"7-4\", W/\"7-5\"", 7L)).containsExactly(4L);
+		assertThat(ETags.parseIfMatch(null, 7L)).isNull();
+		assertThat(ETags.parseIfMatch("*", 7L)).isNull();
+	}
+
+	@Test
+	void parseIfMatchRejectsTagsThatCannotMatch() {
+		assertThatThrownBy(() -> ETags.parseIfMatch("\"8-3\"", 7L)).isInstanceOf(PreconditionFailedException.class);
+		assertThatThrownBy(() -> ETags.parseIfMatch("W/\"7-3\"", 7L)).isInstanceOf(PreconditionFailedException.class);
+		assertThatThrownBy(() -> ETags.parseIfMatch("\"c12\"", 7L)).isInstanceOf(PreconditionFailedException.class);
+		assertThatThrownBy(() -> ETags.parseIfMatch(ETags.forCollection(12), 7L)).isInstanceOf(PreconditionFailedException.class);
+	}
+}